@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.gridsuite.cgmes.boundary.server.dto.BoundaryContent;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of a boundary, as done for the /boundaries/{id} and /boundaries/last responses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BoundaryContentSerializationBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int sizeMb;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private BoundaryContent boundary;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path file = BoundaryFiles.writeEquipmentBoundary(sizeMb * 1024L * 1024L);
+        try {
+            boundary = new BoundaryContent(BoundaryFiles.EQ_BOUNDARY_ID, file.getFileName().toString(),
+                LocalDateTime.of(2020, 11, 29, 0, 0), Files.readString(file, StandardCharsets.UTF_8));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Benchmark
+    public void serialize() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), boundary);
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Generator of EQ_BD boundary files of a given size, made of boundary points as found in the ENTSO-E boundary sets.
+ */
+final class BoundaryFiles {
+
+    static final String EQ_BOUNDARY_ID = "urn:uuid:6f1d7ad2-40a4-4a3c-8d43-2b4d9f0e1a01";
+
+    private BoundaryFiles() {
+    }
+
+    static Path writeEquipmentBoundary(long size) throws IOException {
+        Path file = Files.createTempFile("benchmark", "__ENTSOE_EQBD_001.xml");
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(header(EQ_BOUNDARY_ID, "2020-11-29T00:00:00.000Z"));
+            writer.write("""
+                  <cim:BaseVoltage rdf:ID="_bv-400">
+                    <cim:IdentifiedObject.name>400 kV</cim:IdentifiedObject.name>
+                    <cim:BaseVoltage.nominalVoltage>400</cim:BaseVoltage.nominalVoltage>
+                  </cim:BaseVoltage>
+                """);
+            long written = 0;
+            for (int i = 0; written < size; i++) {
+                String point = boundaryPoint(i);
+                writer.write(point);
+                written += point.length();
+            }
+            writer.write("</rdf:RDF>\n");
+        }
+        return file;
+    }
+
+    static String header(String id, String scenarioTime) {
+        return """
+            <?xml version='1.0' encoding='UTF-8'?>
+            <rdf:RDF xmlns:cim="http://iec.ch/TC57/2013/CIM-schema-cim16#" xmlns:entsoe="http://entsoe.eu/CIM/SchemaExtension/3/1#" xmlns:md="http://iec.ch/TC57/61970-552/ModelDescription/1#" xmlns:rdf="http://www.w3.org/1999/02/22-rdf-syntax-ns#">
+              <md:FullModel rdf:about="%s">
+                <md:Model.created>2020-06-29T05:24:24.637Z</md:Model.created>
+                <md:Model.scenarioTime>%s</md:Model.scenarioTime>
+                <md:Model.version>1</md:Model.version>
+                <md:Model.modelingAuthoritySet>http://tscnet.eu/EMF</md:Model.modelingAuthoritySet>
+                <md:Model.profile>http://entsoe.eu/CIM/EquipmentBoundary/3/1</md:Model.profile>
+              </md:FullModel>
+            """.formatted(id, scenarioTime);
+    }
+
+    private static String boundaryPoint(int i) {
+        return """
+              <cim:Line rdf:ID="_line-%1$d">
+                <cim:IdentifiedObject.name>LINE-%1$d</cim:IdentifiedObject.name>
+              </cim:Line>
+              <cim:ConnectivityNode rdf:ID="_cn-%1$d">
+                <cim:IdentifiedObject.name>XNODE_%1$d</cim:IdentifiedObject.name>
+                <cim:ConnectivityNode.ConnectivityNodeContainer rdf:resource="#_line-%1$d"/>
+                <entsoe:ConnectivityNode.boundaryPoint>true</entsoe:ConnectivityNode.boundaryPoint>
+                <entsoe:ConnectivityNode.fromEndIsoCode>FR</entsoe:ConnectivityNode.fromEndIsoCode>
+                <entsoe:ConnectivityNode.fromEndName>SUBSTATION-FR-%1$d</entsoe:ConnectivityNode.fromEndName>
+                <entsoe:ConnectivityNode.fromEndNameTso>RTE</entsoe:ConnectivityNode.fromEndNameTso>
+                <entsoe:ConnectivityNode.toEndIsoCode>ES</entsoe:ConnectivityNode.toEndIsoCode>
+                <entsoe:ConnectivityNode.toEndName>SUBSTATION-ES-%1$d</entsoe:ConnectivityNode.toEndName>
+                <entsoe:ConnectivityNode.toEndNameTso>REE</entsoe:ConnectivityNode.toEndNameTso>
+              </cim:ConnectivityNode>
+            """.formatted(i);
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server;
+
+import com.powsybl.cgmes.model.FullModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing done at import: the FullModel header, and the boundary points extracted for the boundary index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BoundaryParseBenchmark {
+
+    @Param({"10", "100"})
+    public int sizeMb;
+
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = BoundaryFiles.writeEquipmentBoundary(sizeMb * 1024L * 1024L);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public FullModel parseHeader() throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return FullModel.parse(reader);
+        }
+    }
+
+    @Benchmark
+    public int parseIndex() throws IOException {
+        return BoundaryIndexParser.parse(BoundaryFiles.EQ_BOUNDARY_ID, () -> Files.newInputStream(file)).nodes().size();
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of the raw content endpoint under many concurrent clients, with the requests handled
+ * on the Tomcat platform thread pool or on virtual threads (Java 21 runtime required for the latter).
+ * <p>
+ * The Tomcat pool is shrunk so that it saturates with the number of benchmark threads, as under a burst of imports.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@Threads(64)
+public class ConcurrentReadBenchmark {
+
+    private static final String BOUNDARY_ID = "urn:uuid:6f1d7ad2-40a4-4a3c-8d43-2b4d9f0e1a01";
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param({"1"})
+    public int sizeMb;
+
+    private ConfigurableApplicationContext context;
+
+    private HttpClient client;
+
+    private URI contentUri;
+
+    @Setup
+    public void setUp() throws IOException {
+        context = new SpringApplicationBuilder(CgmesBoundaryApplication.class)
+            .properties("server.port=0",
+                "server.tomcat.threads.max=16",
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "spring.jpa.properties.hibernate.generate_statistics=false")
+            .run();
+        Path file = BoundaryFiles.writeEquipmentBoundary(sizeMb * 1024L * 1024L);
+        try (InputStream is = Files.newInputStream(file)) {
+            byte[] content = is.readAllBytes();
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            String hash = "1".repeat(64);
+            jdbcTemplate.update("INSERT INTO boundary_contents (hash, content_format, content_size, content) VALUES (?, 'PLAIN', ?, ?)",
+                hash, content.length, content);
+            jdbcTemplate.update("INSERT INTO boundaries (id, filename, scenario_time, profile, content_hash) VALUES (?, ?, CURRENT_TIMESTAMP, 'EQ', ?)",
+                BOUNDARY_ID, file.getFileName().toString(), hash);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        contentUri = URI.create("http://localhost:" + port + "/v1/boundaries/" + BOUNDARY_ID + "/content");
+        client = HttpClient.newHttpClient();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int readContent() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(contentUri).build(), HttpResponse.BodyHandlers.ofByteArray());
+        return response.body().length;
+    }
+}
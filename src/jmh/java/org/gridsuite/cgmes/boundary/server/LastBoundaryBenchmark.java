@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server;
+
+import org.gridsuite.cgmes.boundary.server.dto.BoundaryContent;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selection of the last boundary of a profile, now or at a scenario time, among N boundaries stored
+ * in the embedded H2 database of the tests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LastBoundaryBenchmark {
+
+    private static final String CONTENT_HASH = "0".repeat(64);
+    private static final LocalDateTime FIRST_SCENARIO_TIME = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    @Param({"100", "1000", "10000"})
+    public int boundaries;
+
+    private ConfigurableApplicationContext context;
+
+    private CgmesBoundaryService service;
+
+    private CgmesBoundaryCache cache;
+
+    private LocalDateTime middleScenarioTime;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CgmesBoundaryApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties("spring.jpa.properties.hibernate.generate_statistics=false")
+            .run();
+        service = context.getBean(CgmesBoundaryService.class);
+        cache = context.getBean(CgmesBoundaryCache.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        byte[] content = BoundaryFiles.header(BoundaryFiles.EQ_BOUNDARY_ID, "2020-11-29T00:00:00.000Z").getBytes(StandardCharsets.UTF_8);
+        jdbcTemplate.update("INSERT INTO boundary_contents (hash, content_format, content_size, content) VALUES (?, 'PLAIN', ?, ?)",
+            CONTENT_HASH, content.length, content);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < boundaries; i++) {
+            rows.add(new Object[] {"urn:uuid:boundary-" + i, "boundary-" + i + ".xml", FIRST_SCENARIO_TIME.plusHours(i), i % 2 == 0 ? "EQ" : "TP", CONTENT_HASH});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO boundaries (id, filename, scenario_time, profile, content_hash) VALUES (?, ?, ?, ?, ?)", rows);
+        middleScenarioTime = FIRST_SCENARIO_TIME.plusHours(boundaries / 2);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BoundaryContent lastBoundaryCached() {
+        return service.getLastBoundary("EQ");
+    }
+
+    @Benchmark
+    public BoundaryContent lastBoundaryUncached() {
+        cache.invalidateAll();
+        return service.getLastBoundary("EQ");
+    }
+
+    @Benchmark
+    public BoundaryContent lastBoundaryAt() {
+        return service.getLastBoundary("TP", middleScenarioTime);
+    }
+}
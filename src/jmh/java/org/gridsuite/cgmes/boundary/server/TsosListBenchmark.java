@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Validation and normalization of an uploaded TSO list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TsosListBenchmark {
+
+    @Param({"40", "10000"})
+    public int size;
+
+    private String tsos;
+
+    @Setup
+    public void setUp() {
+        // unsorted, as uploaded
+        tsos = IntStream.range(0, size)
+            .mapToObj(i -> "\"TSO-" + Integer.toHexString(i * 7919) + "\"")
+            .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    @Benchmark
+    public String normalize() {
+        return CgmesBoundaryService.normalizeList(tsos);
+    }
+}
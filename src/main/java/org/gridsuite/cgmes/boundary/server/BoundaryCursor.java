@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last boundary of a page in a boundaries list, exchanged with the clients as an opaque token.
+ * The scenario time is null for a boundary without scenario time.
+ */
+record BoundaryCursor(LocalDateTime scenarioTime, String id) {
+
+    private static final String SEPARATOR = "|";
+
+    String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(((scenarioTime != null ? scenarioTime.toString() : "") + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static BoundaryCursor decode(String token) {
+        try {
+            String cursor = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = cursor.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("No separator");
+            }
+            String scenarioTime = cursor.substring(0, separator);
+            return new BoundaryCursor(scenarioTime.isEmpty() ? null : LocalDateTime.parse(scenarioTime), cursor.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor " + token);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server;
+
+import com.powsybl.commons.PowsyblException;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryBaseVoltageEntity;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryNodeEntity;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Streaming parser extracting the boundary points of a boundary file: connectivity nodes (EQ_BD),
+ * topological nodes (TP_BD), the lines containing them and the base voltages.
+ * <p>
+ * Only the properties of the nodes and base voltages are kept while reading, so that memory does not grow with
+ * the other objects of the file. The names of the node containers, which may be described before the nodes,
+ * are read by a second pass over the content.
+ */
+final class BoundaryIndexParser {
+
+    private static final String RDF_NS = "http://www.w3.org/1999/02/22-rdf-syntax-ns#";
+
+    private static final String CONNECTIVITY_NODE = "ConnectivityNode";
+    private static final String TOPOLOGICAL_NODE = "TopologicalNode";
+    private static final String BASE_VOLTAGE = "BaseVoltage";
+
+    private static final String NAME = "IdentifiedObject.name";
+    private static final String NOMINAL_VOLTAGE = "BaseVoltage.nominalVoltage";
+    private static final String CONTAINER = ".ConnectivityNodeContainer";
+    private static final String TOPOLOGICAL_NODE_REFERENCE = "ConnectivityNode.TopologicalNode";
+    private static final String BASE_VOLTAGE_REFERENCE = "TopologicalNode.BaseVoltage";
+    private static final List<String> END_PROPERTIES = List.of(".fromEndIsoCode", ".fromEndName", ".fromEndNameTso",
+        ".toEndIsoCode", ".toEndName", ".toEndNameTso");
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory.newInstance();
+
+    static {
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    private BoundaryIndexParser() {
+    }
+
+    record BoundaryIndex(List<BoundaryNodeEntity> nodes, List<BoundaryBaseVoltageEntity> baseVoltages) {
+    }
+
+    /**
+     * Opens the content of a boundary file, once per pass.
+     */
+    @FunctionalInterface
+    interface ContentSource {
+        InputStream open() throws IOException;
+    }
+
+    private static final class RdfObject {
+        private String type;
+        private final Map<String, String> properties = new HashMap<>();
+
+        private String get(String property) {
+            return properties.get(property);
+        }
+    }
+
+    static BoundaryIndex parse(String boundaryId, ContentSource source) throws IOException {
+        Map<String, RdfObject> objects;
+        try (InputStream is = source.open()) {
+            objects = readObjects(is, BoundaryIndexParser::isIndexed, BoundaryIndexParser::isIndexedProperty);
+        }
+
+        Set<String> containerIds = new HashSet<>();
+        objects.values().forEach(object -> {
+            if (object.get(object.type + CONTAINER) != null) {
+                containerIds.add(object.get(object.type + CONTAINER));
+            }
+        });
+        containerIds.removeAll(objects.keySet());
+        Map<String, RdfObject> containers = Map.of();
+        if (!containerIds.isEmpty()) {
+            try (InputStream is = source.open()) {
+                containers = readObjects(is, (type, id) -> containerIds.contains(id), NAME::equals);
+            }
+        }
+
+        List<BoundaryBaseVoltageEntity> baseVoltages = new ArrayList<>();
+        Map<String, Double> nominalVoltages = new HashMap<>();
+        objects.forEach((id, object) -> {
+            if (BASE_VOLTAGE.equals(object.type) && object.get(NOMINAL_VOLTAGE) != null) {
+                double nominalVoltage = Double.parseDouble(object.get(NOMINAL_VOLTAGE));
+                nominalVoltages.put(id, nominalVoltage);
+                baseVoltages.add(new BoundaryBaseVoltageEntity(boundaryId, id, nominalVoltage));
+            }
+        });
+
+        List<BoundaryNodeEntity> nodes = new ArrayList<>();
+        for (Map.Entry<String, RdfObject> object : objects.entrySet()) {
+            if (isNode(object.getValue().type)) {
+                nodes.add(toNode(boundaryId, object.getKey(), object.getValue(), objects, containers, nominalVoltages));
+            }
+        }
+        return new BoundaryIndex(nodes, baseVoltages);
+    }
+
+    private static boolean isNode(String type) {
+        return CONNECTIVITY_NODE.equals(type) || TOPOLOGICAL_NODE.equals(type);
+    }
+
+    private static boolean isIndexed(String type, String id) {
+        return isNode(type) || BASE_VOLTAGE.equals(type);
+    }
+
+    private static boolean isIndexedProperty(String property) {
+        return NAME.equals(property) || NOMINAL_VOLTAGE.equals(property) || property.endsWith(CONTAINER)
+            || TOPOLOGICAL_NODE_REFERENCE.equals(property) || BASE_VOLTAGE_REFERENCE.equals(property)
+            || END_PROPERTIES.stream().anyMatch(property::endsWith);
+    }
+
+    private static BoundaryNodeEntity toNode(String boundaryId, String id, RdfObject node, Map<String, RdfObject> objects,
+                                             Map<String, RdfObject> containers, Map<String, Double> nominalVoltages) {
+        String containerId = node.get(node.type + CONTAINER);
+        RdfObject container = containerId != null ? objects.getOrDefault(containerId, containers.get(containerId)) : null;
+        String topologicalNodeId = node.get(TOPOLOGICAL_NODE_REFERENCE);
+        String baseVoltageId = node.get(BASE_VOLTAGE_REFERENCE);
+
+        // connectivity nodes of a TP_BD file only reference their topological node, they inherit its boundary point attributes
+        RdfObject endsHolder = node;
+        if (node.get(node.type + ".fromEndIsoCode") == null && topologicalNodeId != null && objects.containsKey(topologicalNodeId)) {
+            endsHolder = objects.get(topologicalNodeId);
+            baseVoltageId = endsHolder.get(BASE_VOLTAGE_REFERENCE);
+        }
+
+        return BoundaryNodeEntity.builder()
+            .boundaryId(boundaryId)
+            .nodeId(id)
+            .nodeType(node.type)
+            .name(node.get(NAME))
+            .lineId(containerId)
+            .lineName(container != null ? container.get(NAME) : null)
+            .topologicalNodeId(topologicalNodeId)
+            .baseVoltageId(baseVoltageId)
+            .nominalVoltage(baseVoltageId != null ? nominalVoltages.get(baseVoltageId) : null)
+            .fromEndIsoCode(endsHolder.get(endsHolder.type + ".fromEndIsoCode"))
+            .fromEndName(endsHolder.get(endsHolder.type + ".fromEndName"))
+            .fromEndNameTso(endsHolder.get(endsHolder.type + ".fromEndNameTso"))
+            .toEndIsoCode(endsHolder.get(endsHolder.type + ".toEndIsoCode"))
+            .toEndName(endsHolder.get(endsHolder.type + ".toEndName"))
+            .toEndNameTso(endsHolder.get(endsHolder.type + ".toEndNameTso"))
+            .build();
+    }
+
+    /**
+     * Read the selected objects of an RDF/XML document, indexed by id, with their selected properties only.
+     * Objects described in several places, with rdf:ID and rdf:about, are merged. The type of an object is the one
+     * of its first description.
+     */
+    private static Map<String, RdfObject> readObjects(InputStream is, BiPredicate<String, String> objectFilter, Predicate<String> propertyFilter) {
+        Map<String, RdfObject> objects = new LinkedHashMap<>();
+        try {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(is);
+            try {
+                int depth = 0;
+                RdfObject current = null;
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        depth++;
+                        if (depth == 2) {
+                            current = readObject(reader, objects, objectFilter);
+                        } else if (depth == 3 && current != null && propertyFilter.test(reader.getLocalName())) {
+                            String property = reader.getLocalName();
+                            String resource = reader.getAttributeValue(RDF_NS, "resource");
+                            if (resource != null) {
+                                current.properties.put(property, toId(resource));
+                            } else {
+                                // reads up to the end element
+                                current.properties.put(property, reader.getElementText().trim());
+                                depth--;
+                            }
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        if (depth == 2) {
+                            current = null;
+                        }
+                        depth--;
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new PowsyblException("Invalid boundary file: " + e.getMessage());
+        }
+        return objects;
+    }
+
+    /**
+     * @return the object described by the current element, null if it is not selected
+     */
+    private static RdfObject readObject(XMLStreamReader reader, Map<String, RdfObject> objects, BiPredicate<String, String> objectFilter) {
+        String id = reader.getAttributeValue(RDF_NS, "ID");
+        if (id == null) {
+            id = reader.getAttributeValue(RDF_NS, "about");
+        }
+        if (id == null) {
+            // anonymous object
+            return null;
+        }
+        id = toId(id);
+        RdfObject object = objects.get(id);
+        if (object == null) {
+            if (!objectFilter.test(reader.getLocalName(), id)) {
+                return null;
+            }
+            object = new RdfObject();
+            object.type = reader.getLocalName();
+            objects.put(id, object);
+        }
+        return object;
+    }
+
+    private static String toId(String reference) {
+        return reference.startsWith("#") ? reference.substring(1) : reference;
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server;
+
+import com.powsybl.commons.PowsyblException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Streaming scan of a whole boundary file for its validation: the profiles and dependencies declared in its
+ * FullModel header, and the ids of the objects it defines more than once.
+ */
+final class BoundaryModelScanner {
+
+    private static final String RDF_NS = "http://www.w3.org/1999/02/22-rdf-syntax-ns#";
+    private static final String MD_NS = "http://iec.ch/TC57/61970-552/ModelDescription/1#";
+
+    private static final String FULL_MODEL = "FullModel";
+    private static final String PROFILE = "Model.profile";
+    private static final String DEPENDENT_ON = "Model.DependentOn";
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory.newInstance();
+
+    static {
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    private BoundaryModelScanner() {
+    }
+
+    /**
+     * @param duplicateIds ids of the objects defined with rdf:ID more than once, rdf:about only adding properties to an object
+     */
+    record BoundaryModel(String id, List<String> profiles, List<String> dependentOn, Set<String> duplicateIds) {
+    }
+
+    static BoundaryModel scan(InputStream is) {
+        String id = null;
+        List<String> profiles = new ArrayList<>();
+        List<String> dependentOn = new ArrayList<>();
+        Set<String> objectIds = new HashSet<>();
+        Set<String> duplicateIds = new TreeSet<>();
+        try {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(is);
+            try {
+                int depth = 0;
+                boolean inFullModel = false;
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        depth++;
+                        if (depth == 2) {
+                            inFullModel = MD_NS.equals(reader.getNamespaceURI()) && FULL_MODEL.equals(reader.getLocalName());
+                            if (inFullModel) {
+                                id = reader.getAttributeValue(RDF_NS, "about");
+                            } else {
+                                String objectId = reader.getAttributeValue(RDF_NS, "ID");
+                                if (objectId != null && !objectIds.add(objectId)) {
+                                    duplicateIds.add(objectId);
+                                }
+                            }
+                        } else if (depth == 3 && inFullModel && MD_NS.equals(reader.getNamespaceURI())) {
+                            if (PROFILE.equals(reader.getLocalName())) {
+                                profiles.add(reader.getElementText().trim());
+                                depth--;
+                            } else if (DEPENDENT_ON.equals(reader.getLocalName())) {
+                                String resource = reader.getAttributeValue(RDF_NS, "resource");
+                                if (resource != null) {
+                                    dependentOn.add(resource);
+                                }
+                            }
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        depth--;
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new PowsyblException("Invalid boundary file: " + e.getMessage());
+        }
+        return new BoundaryModel(id, profiles, dependentOn, duplicateIds);
+    }
+}
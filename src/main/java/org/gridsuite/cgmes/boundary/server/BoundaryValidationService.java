@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server;
+
+import jakarta.annotation.PreDestroy;
+import org.gridsuite.cgmes.boundary.server.dto.BoundaryValidation;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryContentRepository;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryMetadata;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryRepository;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryValidationRepository;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryValidationStatus;
+import org.gridsuite.cgmes.boundary.server.repositories.ContentReadLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Validation of the imported boundaries against their whole content, in the background: the import only parses
+ * the FullModel header and the boundary points, and returns as soon as the boundaries are stored.
+ * The boundaries of an import are validated in parallel by a bounded pool once the import is committed,
+ * and the status of each one is kept with it until it is imported again or deleted.
+ */
+@Service
+class BoundaryValidationService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BoundaryValidationService.class);
+
+    /**
+     * Number of duplicate ids listed in the errors of a boundary, the others are only counted.
+     */
+    private static final int MAX_REPORTED_DUPLICATES = 10;
+
+    record BoundariesImportedEvent(List<String> ids) {
+    }
+
+    private final BoundaryRepository boundaryRepository;
+
+    private final BoundaryContentRepository boundaryContentRepository;
+
+    private final BoundaryValidationRepository boundaryValidationRepository;
+
+    private final ContentReadLimiter contentReadLimiter;
+
+    private final ThreadPoolExecutor executor;
+
+    BoundaryValidationService(BoundaryRepository boundaryRepository,
+                              BoundaryContentRepository boundaryContentRepository,
+                              BoundaryValidationRepository boundaryValidationRepository,
+                              ContentReadLimiter contentReadLimiter,
+                              @Value("${cgmes-boundary-server.validation.pool-size:2}") int poolSize,
+                              @Value("${cgmes-boundary-server.validation.queue-capacity:100}") int queueCapacity) {
+        this.boundaryRepository = boundaryRepository;
+        this.boundaryContentRepository = boundaryContentRepository;
+        this.boundaryValidationRepository = boundaryValidationRepository;
+        this.contentReadLimiter = contentReadLimiter;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), r -> {
+            Thread thread = new Thread(r, "boundary-validation-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Mark the imported boundaries as pending in the import transaction, so that their status is known as soon as
+     * the import returns.
+     */
+    @EventListener
+    void onBoundariesImported(BoundariesImportedEvent event) {
+        boundaryValidationRepository.reset(event.ids(), BoundaryValidationStatus.PENDING);
+    }
+
+    @TransactionalEventListener
+    void onBoundariesImportCommitted(BoundariesImportedEvent event) {
+        event.ids().stream().distinct().forEach(this::submit);
+    }
+
+    Optional<BoundaryValidation> getValidation(String boundaryId) {
+        return boundaryValidationRepository.find(boundaryId)
+            .map(v -> new BoundaryValidation(v.boundaryId(), v.status().name(), v.errors(), v.updated()));
+    }
+
+    /**
+     * Validate a boundary again, after the import of the boundary it depends on for instance.
+     */
+    void revalidate(String boundaryId) {
+        if (!boundaryRepository.existsById(boundaryId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }
+        boundaryValidationRepository.reset(List.of(boundaryId), BoundaryValidationStatus.PENDING);
+        submit(boundaryId);
+    }
+
+    private void submit(String boundaryId) {
+        try {
+            executor.execute(() -> validate(boundaryId));
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("Boundary {} not validated, the validation queue is full", boundaryId);
+            boundaryValidationRepository.update(boundaryId, BoundaryValidationStatus.FAILED, List.of("Validation queue full, to be validated again later"));
+        }
+    }
+
+    private void validate(String boundaryId) {
+        try {
+            Optional<BoundaryMetadata> boundary = boundaryRepository.findProjectedById(boundaryId);
+            if (boundary.isEmpty()) {
+                // deleted meanwhile, with its status
+                return;
+            }
+            boundaryValidationRepository.update(boundaryId, BoundaryValidationStatus.RUNNING, List.of());
+            Optional<BoundaryModelScanner.BoundaryModel> model = contentReadLimiter.read(() ->
+                boundaryContentRepository.readDecodedContent(boundary.get().getContentHash(), BoundaryModelScanner::scan));
+            if (model.isEmpty()) {
+                boundaryValidationRepository.update(boundaryId, BoundaryValidationStatus.FAILED, List.of("Boundary content not found"));
+                return;
+            }
+            List<String> errors = getErrors(boundary.get(), model.get());
+            boundaryValidationRepository.update(boundaryId, errors.isEmpty() ? BoundaryValidationStatus.VALID : BoundaryValidationStatus.INVALID, errors);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not validate boundary {}", boundaryId, e);
+            boundaryValidationRepository.update(boundaryId, BoundaryValidationStatus.FAILED, List.of(Objects.toString(e.getMessage(), e.getClass().getName())));
+        }
+    }
+
+    private List<String> getErrors(BoundaryMetadata boundary, BoundaryModelScanner.BoundaryModel model) {
+        List<String> errors = new ArrayList<>();
+
+        String profile = CgmesBoundaryService.getHeaderProfile(model.profiles());
+        if (profile == null) {
+            errors.add("No boundary profile in the FullModel header");
+        }
+        String filenameProfile = CgmesBoundaryService.getFilenameProfile(boundary.getFilename());
+        if (profile != null && filenameProfile != null && !profile.equals(filenameProfile)) {
+            errors.add("Profile " + filenameProfile + " of the file name does not match profile " + profile + " of the FullModel header");
+        }
+
+        boolean dependsOnEq = false;
+        boolean missingDependency = false;
+        for (String dependency : model.dependentOn()) {
+            Optional<BoundaryMetadata> dependencyBoundary = boundaryRepository.findProjectedById(dependency);
+            if (dependencyBoundary.isEmpty()) {
+                errors.add("Dependency " + dependency + " not found");
+                missingDependency = true;
+            } else if ("EQ".equals(dependencyBoundary.get().getProfile())) {
+                dependsOnEq = true;
+            }
+        }
+        // a missing dependency may be the EQ boundary, imported later
+        if ("TP".equals(profile) && !dependsOnEq && !missingDependency) {
+            errors.add("TP boundary not depending on an EQ boundary");
+        }
+
+        if (!model.duplicateIds().isEmpty()) {
+            List<String> reported = model.duplicateIds().stream().limit(MAX_REPORTED_DUPLICATES).toList();
+            int others = model.duplicateIds().size() - reported.size();
+            errors.add("Duplicate mRIDs: " + String.join(", ", reported) + (others > 0 ? " and " + others + " others" : ""));
+        }
+        return errors;
+    }
+}
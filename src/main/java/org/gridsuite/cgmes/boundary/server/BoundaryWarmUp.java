@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server;
+
+import org.gridsuite.cgmes.boundary.server.dto.BoundaryInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Optional warm-up of a new instance: the last boundaries and the lists are loaded in the caches, and their
+ * serialization run once by default, so that the first requests do not pay for the database reads and the
+ * Hibernate and Jackson metadata. Each iteration serializes the last boundaries again: more iterations also
+ * warm up the JIT compilation, at the cost of a longer startup. Application runners are run before the readiness state
+ * of the application is set to accepting traffic, so the instance receives no request meanwhile.
+ */
+@Component
+@ConditionalOnProperty(name = "cgmes-boundary-server.warm-up.enabled", havingValue = "true")
+class BoundaryWarmUp implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BoundaryWarmUp.class);
+
+    private final CgmesBoundaryService cgmesBoundaryService;
+
+    private final int iterations;
+
+    BoundaryWarmUp(CgmesBoundaryService cgmesBoundaryService,
+                   @Value("${cgmes-boundary-server.warm-up.iterations:1}") int iterations) {
+        this.cgmesBoundaryService = cgmesBoundaryService;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        try {
+            warmUp();
+            LOGGER.info("Warm-up done in {} ms", (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            // the requests will load what is missing
+            LOGGER.warn("Warm-up failed", e);
+        }
+    }
+
+    void warmUp() {
+        List<BoundaryInfo> lastBoundaries = cgmesBoundaryService.getLastBoundariesInfos();
+        lastBoundaries.forEach(b -> cgmesBoundaryService.getBoundary(b.getId()));
+        boolean allProfiles = lastBoundaries.size() == CgmesBoundaryService.BOUNDARY_PROFILES.size();
+        for (int i = 0; i < iterations; i++) {
+            if (allProfiles) {
+                cgmesBoundaryService.getLastBoundariesBundle();
+                cgmesBoundaryService.getLastBoundariesJson(CgmesBoundaryService.BOUNDARY_PROFILES, null);
+            }
+            cgmesBoundaryService.getTsos();
+            cgmesBoundaryService.getBusinessProcesses();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.gridsuite.cgmes.boundary.server.dto.BoundaryContent;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryMetadata;
+import org.gridsuite.cgmes.boundary.server.repositories.LastBoundariesBundle;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * In-memory caches in front of the boundary service reads.
+ * <p>
+ * Boundaries are cached by id and version, the metadata their entity tag is computed from, and bounded by the total
+ * heap size of their contents. The version is read from the database on each read, so that a boundary imported again
+ * or deleted through another instance of the server is never served from a stale entry, which is only evicted by size
+ * if not invalidated by an import or a deletion through this instance. Concurrent reads of a boundary that is not
+ * cached share a single load: the first reader loads it, the others wait for its result, which is not cached
+ * if the load fails or finds nothing. The id of the last boundary of each
+ * profile and the TSO / business process lists are small, they expire after a delay so that an import
+ * done through another instance of the server is eventually seen.
+ * Hit, miss and eviction counters are published as cache metrics.
+ */
+@Component
+class CgmesBoundaryCache {
+
+    static final String BOUNDARIES_CACHE = "boundaries";
+    static final String LAST_BOUNDARY_IDS_CACHE = "lastBoundaryIds";
+    static final String LISTS_CACHE = "lists";
+
+    private static final int MAX_SMALL_ENTRIES = 16;
+    private static final char LATIN1_MAX = 0xFF;
+
+    /**
+     * Version of a boundary: its id and the metadata of its entity tag, a filename changed by the import of the same
+     * content giving a new version.
+     */
+    record BoundaryKey(String id, String filename, LocalDateTime scenarioTime, String contentHash) {
+
+        static BoundaryKey of(BoundaryMetadata boundary) {
+            return new BoundaryKey(boundary.getId(), boundary.getFilename(), boundary.getScenarioTime(), boundary.getContentHash());
+        }
+    }
+
+    private final AsyncCache<BoundaryKey, BoundaryContent> boundaries;
+    private final Cache<String, String> lastBoundaryIds;
+    /**
+     * Pre-serialized JSON arrays of the TSO / business process lists.
+     */
+    private final Cache<String, String> lists;
+    /**
+     * Bundle of the last pair of boundaries served, checked against the entity tag of the current pair on each use.
+     */
+    private volatile LastBoundariesBundle lastBoundariesBundle;
+
+    CgmesBoundaryCache(@Value("${cgmes-boundary-server.cache.max-size:256MB}") DataSize maxSize,
+                       @Value("${cgmes-boundary-server.cache.expire-after-write:5m}") Duration expireAfterWrite,
+                       MeterRegistry meterRegistry) {
+        boundaries = Caffeine.newBuilder()
+            .maximumWeight(maxSize.toBytes())
+            .weigher((BoundaryKey key, BoundaryContent boundary) -> heapSize(boundary.getBoundary()))
+            .recordStats()
+            .buildAsync();
+        lastBoundaryIds = Caffeine.newBuilder()
+            .maximumSize(MAX_SMALL_ENTRIES)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+        lists = Caffeine.newBuilder()
+            .maximumSize(MAX_SMALL_ENTRIES)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, boundaries.synchronous(), BOUNDARIES_CACHE);
+        CaffeineCacheMetrics.monitor(meterRegistry, lastBoundaryIds, LAST_BOUNDARY_IDS_CACHE);
+        CaffeineCacheMetrics.monitor(meterRegistry, lists, LISTS_CACHE);
+    }
+
+    /**
+     * @return the cached boundary, or the one returned by the loader, null if the loader returns null.
+     * The loader runs on the calling thread, outside of any cache lock, and only if no load of this boundary
+     * is already in flight.
+     */
+    BoundaryContent getBoundary(BoundaryKey boundaryKey, Function<BoundaryKey, BoundaryContent> loader) {
+        CompletableFuture<BoundaryContent> loading = new CompletableFuture<>();
+        CompletableFuture<BoundaryContent> boundary = boundaries.get(boundaryKey, (key, executor) -> loading);
+        if (boundary == loading) {
+            try {
+                loading.complete(loader.apply(boundaryKey));
+            } catch (RuntimeException | Error e) {
+                loading.completeExceptionally(e);
+            }
+        }
+        try {
+            return boundary.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            } else if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return the size in bytes of the characters of a string on the heap: one byte per character when they all
+     * fit in Latin-1, two otherwise (compact strings)
+     */
+    static int heapSize(String content) {
+        if (content == null) {
+            return 0;
+        }
+        for (int i = 0; i < content.length(); i++) {
+            if (content.charAt(i) > LATIN1_MAX) {
+                return (int) Math.min(2L * content.length(), Integer.MAX_VALUE);
+            }
+        }
+        return content.length();
+    }
+
+    String getLastBoundaryId(String profile, Function<String, String> loader) {
+        return lastBoundaryIds.get(profile, loader);
+    }
+
+    String getList(String name, Function<String, String> loader) {
+        return lists.get(name, loader);
+    }
+
+    LastBoundariesBundle getLastBoundariesBundle() {
+        return lastBoundariesBundle;
+    }
+
+    void putLastBoundariesBundle(LastBoundariesBundle bundle) {
+        lastBoundariesBundle = bundle;
+    }
+
+    /**
+     * Evict all the cached versions of a boundary.
+     */
+    void invalidateBoundary(String boundaryId) {
+        boundaries.synchronous().asMap().keySet().removeIf(key -> key.id().equals(boundaryId));
+        lastBoundaryIds.invalidateAll();
+    }
+
+    void invalidateLastBoundaryIds() {
+        lastBoundaryIds.invalidateAll();
+    }
+
+    void invalidateList(String name) {
+        lists.invalidate(name);
+    }
+
+    void invalidateAll() {
+        boundaries.synchronous().invalidateAll();
+        lastBoundaryIds.invalidateAll();
+        lists.invalidateAll();
+        lastBoundariesBundle = null;
+    }
+}
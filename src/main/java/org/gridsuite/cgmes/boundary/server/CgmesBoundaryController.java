@@ -8,29 +8,55 @@ package org.gridsuite.cgmes.boundary.server;
 
 import com.powsybl.commons.PowsyblException;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.gridsuite.cgmes.boundary.server.dto.BoundaryChanges;
 import org.gridsuite.cgmes.boundary.server.dto.BoundaryContent;
 import org.gridsuite.cgmes.boundary.server.dto.BoundaryInfo;
+import org.gridsuite.cgmes.boundary.server.dto.BoundaryListParameters;
+import org.gridsuite.cgmes.boundary.server.dto.BoundaryNode;
+import org.gridsuite.cgmes.boundary.server.dto.BoundaryValidation;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryContentFormat;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryFilter;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryMetadata;
+import org.gridsuite.cgmes.boundary.server.repositories.LastBoundariesBundle;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
-import java.util.Collections;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * @author Franck Lecuyer <franck.lecuyer at rte-france.com>
@@ -40,44 +66,217 @@ import java.util.stream.Collectors;
 @Tag(name = "cgmes-boundary-server")
 @ComponentScan(basePackageClasses = CgmesBoundaryService.class)
 public class CgmesBoundaryController {
-    private static final List<String> BOUNDARY_PROFILES = List.of("EQ", "TP");
+    private static final String GZIP_ENCODING = "gzip";
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+    private static final String BYTES_UNIT = "bytes";
+    private static final String EMPTY_LIST = "[]";
+    static final String BOUNDARY_SIZE_HEADER = "X-Boundary-Size";
+    private static final String BOUNDARIES_REPRESENTATION = "boundaries";
+    private static final String BOUNDARIES_INFOS_REPRESENTATION = "infos";
 
     @Autowired
     private CgmesBoundaryService cgmesBoundaryService;
 
+    @Autowired
+    private LastBoundariesNotifier lastBoundariesNotifier;
+
+    @Autowired
+    private BoundaryValidationService boundaryValidationService;
+
     @GetMapping(value = "/boundaries", produces = MediaType.APPLICATION_JSON_VALUE)
-    @Operation(summary = "Get all boundaries")
-    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The list of all boundaries")})
-    public ResponseEntity<List<BoundaryContent>> getBoundariesList() {
-        List<BoundaryContent> boundaries = cgmesBoundaryService.getBoundariesList();
-        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(boundaries);
+    @Operation(summary = "Get all boundaries, or a page of the boundaries ordered by scenario time")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The list of the boundaries")})
+    public ResponseEntity<StreamingResponseBody> getBoundariesList(@ParameterObject BoundaryListParameters parameters, WebRequest request) {
+        BoundaryFilter filter = toFilter(parameters);
+        Optional<String> eTag = cgmesBoundaryService.getBoundariesETag(BOUNDARIES_REPRESENTATION + filter);
+        if (isNotModified(eTag, request)) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder builder = ok(eTag).contentType(MediaType.APPLICATION_JSON);
+        if (!filter.isPaged()) {
+            return builder.body(outputStream -> cgmesBoundaryService.writeBoundariesList(filter, outputStream));
+        }
+        // the contents are streamed after the headers: the page is selected first, then exactly its boundaries are
+        // streamed, so that the next page link is the one of the streamed boundaries
+        List<BoundaryInfo> page = cgmesBoundaryService.getBoundariesInfosList(filter);
+        linkNextPage(builder, cgmesBoundaryService.getNextCursor(filter, page));
+        BoundaryFilter pageFilter = filter.withIds(page.stream().map(BoundaryInfo::getId).toList());
+        return builder.body(outputStream -> cgmesBoundaryService.writeBoundariesList(pageFilter, outputStream));
     }
 
     @GetMapping(value = "/boundaries/infos", produces = MediaType.APPLICATION_JSON_VALUE)
-    @Operation(summary = "Get all boundaries infos")
-    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The list of all boundaries infos")})
-    public ResponseEntity<List<BoundaryInfo>> getBoundariesInfosList() {
-        List<BoundaryInfo> boundaries = cgmesBoundaryService.getBoundariesInfosList();
-        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(boundaries);
+    @Operation(summary = "Get all boundaries infos, or a page of the boundaries infos ordered by scenario time")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The list of the boundaries infos")})
+    public ResponseEntity<List<BoundaryInfo>> getBoundariesInfosList(@ParameterObject BoundaryListParameters parameters, WebRequest request) {
+        BoundaryFilter filter = toFilter(parameters);
+        Optional<String> eTag = cgmesBoundaryService.getBoundariesETag(BOUNDARIES_INFOS_REPRESENTATION + filter);
+        if (isNotModified(eTag, request)) {
+            return null;
+        }
+        List<BoundaryInfo> boundaries = cgmesBoundaryService.getBoundariesInfosList(filter);
+        ResponseEntity.BodyBuilder builder = ok(eTag).contentType(MediaType.APPLICATION_JSON);
+        linkNextPage(builder, cgmesBoundaryService.getNextCursor(filter, boundaries));
+        return builder.body(boundaries);
+    }
+
+    @GetMapping(value = "/boundaries/changes", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the boundaries imported or deleted since a revision of the boundary set")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The current revision and the ids of the boundaries added and removed since the requested one")})
+    public ResponseEntity<BoundaryChanges> getBoundariesChanges(@RequestParam(name = "since", defaultValue = "0") long since) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(cgmesBoundaryService.getChanges(since));
     }
 
     @GetMapping(value = "/boundaries/last", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get last boundary")
-    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The last EQ and TP boundaries")})
-    public ResponseEntity<List<BoundaryContent>> getLastBoundaries() {
-        List<BoundaryContent> boundaries = BOUNDARY_PROFILES.stream().map(profile -> cgmesBoundaryService.getLastBoundary(profile)).collect(Collectors.toList());
-        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(boundaries);
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The last EQ and TP boundaries, or the last boundary of the given profile, in force at the given time if any",
+        content = @Content(array = @ArraySchema(schema = @Schema(implementation = BoundaryContent.class))))})
+    public ResponseEntity<byte[]> getLastBoundaries(
+            @Parameter(description = "EQ or TP, both if not given") @RequestParam(name = "profile", required = false) String profile,
+            @Parameter(description = "Scenario time at which the boundaries are in force, the last boundaries are returned if not given")
+            @RequestParam(name = "at", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at,
+            WebRequest request) {
+        if (profile == null && at == null) {
+            // the current last boundaries are served from their pre-serialized bundle
+            Optional<LastBoundariesBundle> bundle = cgmesBoundaryService.getLastBoundariesBundle();
+            if (bundle.isPresent()) {
+                boolean gzipEncoded = acceptsGzip(request);
+                String eTag = gzipEncoded ? bundle.get().eTag() + GZIP_ETAG_SUFFIX : bundle.get().eTag();
+                if (isNotModified(Optional.of(eTag), request)) {
+                    return null;
+                }
+                byte[] content = gzipEncoded ? bundle.get().gzipContent() : bundle.get().content();
+                ResponseEntity.BodyBuilder builder = ok(Optional.of(eTag)).contentType(MediaType.APPLICATION_JSON)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .contentLength(content.length);
+                if (gzipEncoded) {
+                    builder.header(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING);
+                }
+                return builder.body(content);
+            }
+        }
+        List<String> profiles = profile != null ? List.of(profile) : CgmesBoundaryService.BOUNDARY_PROFILES;
+        Optional<String> eTag = cgmesBoundaryService.getLastBoundariesETag(profiles, at);
+        if (isNotModified(eTag, request)) {
+            return null;
+        }
+        return ok(eTag).contentType(MediaType.APPLICATION_JSON).body(cgmesBoundaryService.getLastBoundariesJson(profiles, at));
+    }
+
+    @GetMapping(value = "/boundaries/last/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Subscribe to the changes of the last boundaries")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "A stream of '" + LastBoundariesNotifier.LAST_BOUNDARY_EVENT
+        + "' events, starting with the current last EQ and TP boundaries, then each new last boundary of a profile, and '"
+        + LastBoundariesNotifier.LAST_BOUNDARY_REMOVED_EVENT + "' events with the profiles having no boundary anymore")})
+    public SseEmitter subscribeLastBoundaries() {
+        return lastBoundariesNotifier.subscribe(cgmesBoundaryService::getLastBoundariesInfos);
     }
 
     @GetMapping(value = "/boundaries/{boundaryId}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a boundary")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The boundary identified by boundaryId")})
-    public ResponseEntity<BoundaryContent> getBoundary(@PathVariable("boundaryId") String boundaryId) {
-        Optional<BoundaryContent> boundary = cgmesBoundaryService.getBoundary(boundaryId);
+    public ResponseEntity<BoundaryContent> getBoundary(@PathVariable("boundaryId") String boundaryId, WebRequest request) {
+        // the content served is the version of the metadata the entity tag is computed from
+        Optional<BoundaryMetadata> metadata = cgmesBoundaryService.getBoundaryMetadata(boundaryId);
+        Optional<String> eTag = metadata.flatMap(CgmesBoundaryService::getBoundaryETag);
+        if (isNotModified(eTag, request)) {
+            return null;
+        }
+        Optional<BoundaryContent> boundary = metadata.flatMap(cgmesBoundaryService::getBoundary);
         if (!boundary.isPresent()) {
             throw new PowsyblException("Boundary not found for id " + boundaryId);
         }
-        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(boundary.get());
+        return ok(eTag).contentType(MediaType.APPLICATION_JSON).body(boundary.get());
+    }
+
+    @RequestMapping(value = "/boundaries/{boundaryId}", method = RequestMethod.HEAD)
+    @Operation(summary = "Check a boundary without getting its content")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The entity tag of the boundary identified by boundaryId, "
+        + "and the size in bytes of its XML content, if known, in the " + BOUNDARY_SIZE_HEADER + " header"),
+        @ApiResponse(responseCode = "404", description = "The boundary has not been found")})
+    public ResponseEntity<Void> headBoundary(@PathVariable("boundaryId") String boundaryId, WebRequest request) {
+        Optional<BoundaryMetadata> boundary = cgmesBoundaryService.getBoundaryMetadata(boundaryId);
+        if (boundary.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        Optional<String> eTag = CgmesBoundaryService.getBoundaryETag(boundary.get());
+        if (isNotModified(eTag, request)) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder builder = ok(eTag);
+        // the size of the content served, not of the content as stored, which may be compressed
+        Optional.ofNullable(boundary.get().getContentLength())
+            .ifPresent(length -> builder.header(BOUNDARY_SIZE_HEADER, String.valueOf(length)));
+        return builder.build();
+    }
+
+    @GetMapping(value = "/boundaries/{boundaryId}/content", produces = MediaType.APPLICATION_XML_VALUE)
+    @Operation(summary = "Get the XML content of a boundary, or a byte range of it")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The XML content of the boundary identified by boundaryId"),
+        @ApiResponse(responseCode = "206", description = "The byte range of the content requested by the Range header"),
+        @ApiResponse(responseCode = "404", description = "The boundary has not been found"),
+        @ApiResponse(responseCode = "416", description = "The requested byte range is beyond the end of the content")})
+    public ResponseEntity<StreamingResponseBody> getBoundaryContent(@PathVariable("boundaryId") String boundaryId, ServletWebRequest request) {
+        Optional<BoundaryMetadata> boundary = cgmesBoundaryService.getBoundaryMetadata(boundaryId);
+        String contentHash = boundary.map(BoundaryMetadata::getContentHash).orElse(null);
+        Optional<BoundaryContentFormat> format = contentHash != null ? cgmesBoundaryService.getContentFormat(contentHash) : Optional.empty();
+        if (format.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        // gzip stored contents are served as is to clients accepting this encoding
+        boolean gzipEncoded = format.get() == BoundaryContentFormat.GZIP && acceptsGzip(request);
+        String eTag = gzipEncoded ? contentHash + GZIP_ETAG_SUFFIX : contentHash;
+        if (isNotModified(Optional.of(eTag), request)) {
+            return null;
+        }
+        // ranges are served when the length of the representation is known
+        Long length = gzipEncoded ? cgmesBoundaryService.getContentSize(contentHash).orElse(null) : boundary.get().getContentLength();
+        Optional<HttpRange> range = length != null ? getRange(request, eTag) : Optional.empty();
+        if (range.isPresent() && !isSatisfiable(range.get(), length)) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, BYTES_UNIT + " */" + length)
+                .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(range.isPresent() ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
+            .eTag(eTag)
+            .contentType(MediaType.APPLICATION_XML)
+            .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzipEncoded) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING);
+        }
+        if (length != null) {
+            builder.header(HttpHeaders.ACCEPT_RANGES, BYTES_UNIT);
+        }
+        if (range.isEmpty()) {
+            if (length != null) {
+                builder.contentLength(length);
+            }
+            return isHead(request) ? builder.build()
+                : builder.body(outputStream -> requireWritten(cgmesBoundaryService.writeContent(contentHash, outputStream, gzipEncoded), boundaryId));
+        }
+        long start = range.get().getRangeStart(length);
+        long end = range.get().getRangeEnd(length);
+        builder.header(HttpHeaders.CONTENT_RANGE, BYTES_UNIT + " " + start + "-" + end + "/" + length)
+            .contentLength(end - start + 1);
+        return isHead(request) ? builder.build()
+            : builder.body(outputStream -> requireWritten(cgmesBoundaryService.writeContentRange(contentHash, outputStream, gzipEncoded, start, end - start + 1), boundaryId));
+    }
+
+    /**
+     * A boundary deleted between the headers and the body has nothing written, it is answered as not found.
+     */
+    private static void requireWritten(boolean written, String boundaryId) {
+        if (!written) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Boundary not found for id " + boundaryId);
+        }
+    }
+
+    @GetMapping(value = "/boundaries/{boundaryId}/nodes", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the boundary points of a boundary")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The boundary points of the boundary identified by boundaryId")})
+    public ResponseEntity<List<BoundaryNode>> getBoundaryNodes(@PathVariable("boundaryId") String boundaryId,
+                                                               @RequestParam(name = "tso", required = false) String tso) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(cgmesBoundaryService.getBoundaryNodes(boundaryId, tso));
     }
 
     @PostMapping(value = "/boundaries", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -87,6 +286,33 @@ public class CgmesBoundaryController {
         return ResponseEntity.ok().body(id);
     }
 
+    @PostMapping(value = "/boundaries/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "import boundary files, or zip archives of boundary files, in the database in a single transaction")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The ids of the imported boundaries")})
+    public ResponseEntity<List<String>> importBoundaries(@RequestParam("files") List<MultipartFile> boundaryFiles) {
+        List<String> ids = cgmesBoundaryService.importBoundaries(boundaryFiles);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(ids);
+    }
+
+    @GetMapping(value = "/boundaries/{boundaryId}/validation", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the status of the background validation of an imported boundary")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The validation status, with the errors found"),
+        @ApiResponse(responseCode = "404", description = "Boundary not found, or imported before validations")})
+    public ResponseEntity<BoundaryValidation> getBoundaryValidation(@PathVariable("boundaryId") String boundaryId) {
+        return boundaryValidationService.getValidation(boundaryId)
+            .map(v -> ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(v))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @PostMapping(value = "/boundaries/{boundaryId}/validation")
+    @Operation(summary = "Validate an imported boundary again, in the background")
+    @ApiResponses(value = {@ApiResponse(responseCode = "202", description = "The validation is pending"),
+        @ApiResponse(responseCode = "404", description = "Boundary not found")})
+    public ResponseEntity<Void> revalidateBoundary(@PathVariable("boundaryId") String boundaryId) {
+        boundaryValidationService.revalidate(boundaryId);
+        return ResponseEntity.accepted().build();
+    }
+
     @GetMapping(value = "/boundaries/{boundaryId}/exists")
     @Operation(summary = "Check if the boundary exists")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "If the boundary exists or not.")})
@@ -94,12 +320,23 @@ public class CgmesBoundaryController {
         return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(cgmesBoundaryService.boundaryExists(boundaryId));
     }
 
+    @PostMapping(value = "/boundaries/exists", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Check if boundaries exist")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "For each of the boundary ids, if the boundary exists or not"),
+        @ApiResponse(responseCode = "400", description = "One of the boundary ids is null")})
+    public ResponseEntity<Map<String, Boolean>> boundariesExist(@RequestBody List<String> boundaryIds) {
+        if (boundaryIds.contains(null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The boundary ids must not be null");
+        }
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(cgmesBoundaryService.boundariesExist(boundaryIds));
+    }
+
     @GetMapping(value = "/tsos", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get list of all available tsos")
-    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The list of all available tsos")})
-    public ResponseEntity<Set<String>> getTsos() {
-        Optional<Set<String>> tsos = cgmesBoundaryService.getTsos();
-        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(tsos.orElse(Collections.emptySet()));
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The list of all available tsos",
+        content = @Content(array = @ArraySchema(schema = @Schema(implementation = String.class))))})
+    public ResponseEntity<String> getTsos() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(cgmesBoundaryService.getTsos().orElse(EMPTY_LIST));
     }
 
     @PostMapping(value = "/tsos", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -111,10 +348,10 @@ public class CgmesBoundaryController {
 
     @GetMapping(value = "/business-processes", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get list of all available business processes")
-    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The list of all available business processes")})
-    public ResponseEntity<Set<String>> getBusinessProcesses() {
-        Optional<Set<String>> businessProcesses = cgmesBoundaryService.getBusinessProcesses();
-        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(businessProcesses.orElse(Collections.emptySet()));
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The list of all available business processes",
+        content = @Content(array = @ArraySchema(schema = @Schema(implementation = String.class))))})
+    public ResponseEntity<String> getBusinessProcesses() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(cgmesBoundaryService.getBusinessProcesses().orElse(EMPTY_LIST));
     }
 
     @PostMapping(value = "/business-processes", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -131,4 +368,82 @@ public class CgmesBoundaryController {
         cgmesBoundaryService.deleteBoundary(boundaryId);
         return ResponseEntity.ok().build();
     }
+
+    /**
+     * Answer a conditional request from the entity tag alone, before loading any boundary content.
+     */
+    private static boolean isNotModified(Optional<String> eTag, WebRequest request) {
+        return eTag.isPresent() && request.checkNotModified(eTag.get());
+    }
+
+    private static BoundaryFilter toFilter(BoundaryListParameters parameters) {
+        if (parameters.getLimit() != null && parameters.getLimit() <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The limit must be positive");
+        }
+        BoundaryCursor cursor = parameters.getAfter() != null ? BoundaryCursor.decode(parameters.getAfter()) : null;
+        return new BoundaryFilter(parameters.getProfile(), parameters.getFilename(), parameters.getFrom(), parameters.getTo(),
+            cursor != null ? cursor.scenarioTime() : null, cursor != null ? cursor.id() : null,
+            parameters.getLimit(), parameters.getOrder() == Sort.Direction.DESC);
+    }
+
+    private static void linkNextPage(ResponseEntity.BodyBuilder builder, Optional<BoundaryCursor> nextCursor) {
+        nextCursor.ifPresent(cursor -> builder.header(HttpHeaders.LINK,
+            "<" + ServletUriComponentsBuilder.fromCurrentRequest().replaceQueryParam("after", cursor.encode()).toUriString() + ">; rel=\"next\""));
+    }
+
+    /**
+     * @return the byte range requested, empty if none, if the Range header is invalid or has several ranges, which are
+     * answered with the whole content, or if the If-Range header does not match the entity tag of the content
+     */
+    private static Optional<HttpRange> getRange(WebRequest request, String eTag) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || !rangeHeader.startsWith(BYTES_UNIT + "=")) {
+            return Optional.empty();
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals("\"" + eTag + "\"")) {
+            return Optional.empty();
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? Optional.of(ranges.get(0)) : Optional.empty();
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * HEAD requests are otherwise answered by running the GET handler and discarding the body, which would stream the content.
+     */
+    private static boolean isHead(ServletWebRequest request) {
+        return request.getHttpMethod() == HttpMethod.HEAD;
+    }
+
+    private static boolean isSatisfiable(HttpRange range, long length) {
+        try {
+            return range.getRangeStart(length) <= range.getRangeEnd(length);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static boolean acceptsGzip(WebRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            if (parameters[0].trim().equalsIgnoreCase(GZIP_ENCODING)) {
+                return parameters.length == 1 || !parameters[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static ResponseEntity.BodyBuilder ok(Optional<String> eTag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        eTag.ifPresent(builder::eTag);
+        return builder;
+    }
 }
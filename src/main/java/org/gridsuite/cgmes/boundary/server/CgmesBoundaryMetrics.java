@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import lombok.Getter;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryContentRepository;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryRepository;
+import org.gridsuite.cgmes.boundary.server.repositories.ContentReadLimiter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Meters of the boundary service: latencies of the imports and reads, sizes of the payloads, and gauges
+ * of the stored boundaries, published with percentile histograms on the actuator Prometheus endpoint.
+ */
+@Component
+@Getter
+class CgmesBoundaryMetrics {
+
+    static final String IMPORT_TIMER = "cgmes.boundary.import";
+    static final String GET_TIMER = "cgmes.boundary.get";
+    static final String LIST_TIMER = "cgmes.boundary.list";
+    static final String IMPORT_SIZE = "cgmes.boundary.import.size";
+    static final String CONTENT_SIZE = "cgmes.boundary.content.size";
+    static final String BOUNDARY_COUNT = "cgmes.boundary.count";
+    static final String STORED_SIZE = "cgmes.boundary.stored.size";
+    static final String ACTIVE_READS = "cgmes.boundary.content.reads.active";
+
+    private static final double MIN_EXPECTED_SIZE = 1024d;
+    private static final double MAX_EXPECTED_SIZE = 1024d * 1024 * 1024;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Timer importParseTimer;
+    private final Timer importPersistTimer;
+    private final Timer getBoundaryTimer;
+    private final Timer getLastBoundaryTimer;
+    private final Timer listInfosTimer;
+    private final Timer listContentsTimer;
+
+    private final DistributionSummary importSize;
+    private final DistributionSummary contentSize;
+
+    CgmesBoundaryMetrics(MeterRegistry meterRegistry, BoundaryRepository boundaryRepository, BoundaryContentRepository boundaryContentRepository,
+                         ContentReadLimiter contentReadLimiter) {
+        this.meterRegistry = meterRegistry;
+        importParseTimer = timer(IMPORT_TIMER, "Time spent parsing the imported boundary files", "phase", "parse");
+        importPersistTimer = timer(IMPORT_TIMER, "Time spent storing the imported boundary files", "phase", "persist");
+        getBoundaryTimer = timer(GET_TIMER, "Time spent getting a boundary", "boundary", "id");
+        getLastBoundaryTimer = timer(GET_TIMER, "Time spent getting a boundary", "boundary", "last");
+        listInfosTimer = timer(LIST_TIMER, "Time spent listing the boundaries", "list", "infos");
+        listContentsTimer = timer(LIST_TIMER, "Time spent listing the boundaries", "list", "contents");
+        importSize = size(IMPORT_SIZE, "Size of the uploaded boundary files and archives");
+        contentSize = size(CONTENT_SIZE, "Size of the boundary contents returned");
+
+        // queried at each scrape, from the database so that the imports of all the instances are seen
+        Gauge.builder(BOUNDARY_COUNT, boundaryRepository, BoundaryRepository::count)
+            .description("Number of stored boundaries")
+            .register(meterRegistry);
+        Gauge.builder(STORED_SIZE, boundaryContentRepository, BoundaryContentRepository::getTotalStoredSize)
+            .description("Total size of the stored boundary contents, as stored")
+            .baseUnit(BaseUnits.BYTES)
+            .register(meterRegistry);
+        Gauge.builder(ACTIVE_READS, contentReadLimiter, ContentReadLimiter::getActiveReads)
+            .description("Number of boundary contents being read from the database, out of the maximum number of concurrent reads")
+            .register(meterRegistry);
+    }
+
+    private Timer timer(String name, String description, String tagKey, String tagValue) {
+        return Timer.builder(name)
+            .description(description)
+            .tag(tagKey, tagValue)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    private DistributionSummary size(String name, String description) {
+        return DistributionSummary.builder(name)
+            .description(description)
+            .baseUnit(BaseUnits.BYTES)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(MIN_EXPECTED_SIZE)
+            .maximumExpectedValue(MAX_EXPECTED_SIZE)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Record the size of a returned content, in bytes as stored and served, i.e. its length once encoded in UTF-8.
+     */
+    void recordContentSize(String content) {
+        contentSize.record(utf8Length(content));
+    }
+
+    /**
+     * @return the length of the string encoded in UTF-8, counted without encoding it
+     */
+    static long utf8Length(String s) {
+        long length = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogate, replaced by '?' when encoded
+                length++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+}
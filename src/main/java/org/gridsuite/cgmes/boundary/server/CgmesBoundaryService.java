@@ -6,34 +6,86 @@
  */
 package org.gridsuite.cgmes.boundary.server;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.powsybl.cgmes.model.FullModel;
 import com.powsybl.commons.PowsyblException;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.gridsuite.cgmes.boundary.server.dto.BoundaryChanges;
 import org.gridsuite.cgmes.boundary.server.dto.BoundaryContent;
 import org.gridsuite.cgmes.boundary.server.dto.BoundaryInfo;
+import org.gridsuite.cgmes.boundary.server.dto.BoundaryNode;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryBaseVoltageEntity;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryBaseVoltageRepository;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryChangeRepository;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryContentFormat;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryContentRepository;
 import org.gridsuite.cgmes.boundary.server.repositories.BoundaryEntity;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryFilter;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryMetadata;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryNodeEntity;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryNodeRepository;
 import org.gridsuite.cgmes.boundary.server.repositories.BoundaryRepository;
 import org.gridsuite.cgmes.boundary.server.repositories.BusinessProcessesListEntity;
 import org.gridsuite.cgmes.boundary.server.repositories.BusinessProcessesRepository;
+import org.gridsuite.cgmes.boundary.server.repositories.ContentHashing;
+import org.gridsuite.cgmes.boundary.server.repositories.ContentReadLimiter;
+import org.gridsuite.cgmes.boundary.server.repositories.LastBoundariesBundle;
+import org.gridsuite.cgmes.boundary.server.repositories.LastBoundariesBundleRepository;
+import org.gridsuite.cgmes.boundary.server.repositories.NameLists;
+import org.gridsuite.cgmes.boundary.server.repositories.SpooledContent;
 import org.gridsuite.cgmes.boundary.server.repositories.TsosListEntity;
 import org.gridsuite.cgmes.boundary.server.repositories.TsosRepository;
-import org.json.JSONArray;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 /**
  * @author Franck Lecuyer <franck.lecuyer at rte-france.com>
@@ -41,105 +93,753 @@ import java.util.stream.Collectors;
  */
 @Service
 class CgmesBoundaryService {
-    private static final String REGEX = "^(.*(__ENTSOE_%sBD_).*(.xml))$";
+    static final List<String> BOUNDARY_PROFILES = List.of("EQ", "TP");
+    private static final String LAST_BOUNDARIES_REPRESENTATION = "last";
+
+    private static final Pattern FILENAME_PROFILE_PATTERN = Pattern.compile("^.*__ENTSOE_(EQ|TP)BD_.*\\.xml$");
+    private static final String EQ_BOUNDARY_PROFILE_URI = "/EquipmentBoundary/";
+    private static final String TP_BOUNDARY_PROFILE_URI = "/TopologyBoundary/";
+    private static final String ZIP_EXTENSION = ".zip";
+    private static final String XML_EXTENSION = ".xml";
+    private static final int MAX_IDS_PER_QUERY = 1000;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CgmesBoundaryService.class);
 
     private BoundaryRepository boundaryRepository;
+    private BoundaryContentRepository boundaryContentRepository;
     private TsosRepository tsosRepository;
     private BusinessProcessesRepository businessProcessesRepository;
+    private ObjectMapper objectMapper;
+    private CgmesBoundaryCache boundaryCache;
+    private BoundaryNodeRepository boundaryNodeRepository;
+    private BoundaryBaseVoltageRepository boundaryBaseVoltageRepository;
+    private BoundaryChangeRepository boundaryChangeRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private CgmesBoundaryMetrics metrics;
+    private LastBoundariesBundleRepository lastBoundariesBundleRepository;
+    private ContentReadLimiter contentReadLimiter;
+
+    /**
+     * Serializes the builds of the last boundaries bundle, a lock rather than a monitor not to pin virtual threads.
+     */
+    private final Lock lastBoundariesBundleLock = new ReentrantLock();
+
+    /**
+     * Builds the bundle of the new last boundaries off the request threads of the imports and deletions, one at a time.
+     */
+    private final ExecutorService lastBoundariesBundleBuilder = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "last-boundaries-bundle-builder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Parses the new contents of the imports, bounded not to compete with the request threads and the common pool.
+     */
+    private final ExecutorService importParser;
 
     private static final String TSOS_LIST_NAME = "tsos";
     private static final String BUSINESS_PROCESS_LIST_NAME = "businessProcesses";
 
     public CgmesBoundaryService(BoundaryRepository boundaryRepository,
+                                BoundaryContentRepository boundaryContentRepository,
                                 TsosRepository tsosRepository,
-                                BusinessProcessesRepository businessProcessesRepository) {
+                                BusinessProcessesRepository businessProcessesRepository,
+                                ObjectMapper objectMapper,
+                                CgmesBoundaryCache boundaryCache,
+                                BoundaryNodeRepository boundaryNodeRepository,
+                                BoundaryBaseVoltageRepository boundaryBaseVoltageRepository,
+                                BoundaryChangeRepository boundaryChangeRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                CgmesBoundaryMetrics metrics,
+                                LastBoundariesBundleRepository lastBoundariesBundleRepository,
+                                ContentReadLimiter contentReadLimiter,
+                                @Value("${cgmes-boundary-server.import.parse-threads:4}") int parseThreads) {
         this.boundaryRepository = boundaryRepository;
+        this.boundaryContentRepository = boundaryContentRepository;
         this.tsosRepository = tsosRepository;
         this.businessProcessesRepository = businessProcessesRepository;
+        this.objectMapper = objectMapper;
+        this.boundaryCache = boundaryCache;
+        this.boundaryNodeRepository = boundaryNodeRepository;
+        this.boundaryBaseVoltageRepository = boundaryBaseVoltageRepository;
+        this.boundaryChangeRepository = boundaryChangeRepository;
+        this.eventPublisher = eventPublisher;
+        this.metrics = metrics;
+        this.lastBoundariesBundleRepository = lastBoundariesBundleRepository;
+        this.contentReadLimiter = contentReadLimiter;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.importParser = Executors.newFixedThreadPool(parseThreads, r -> {
+            Thread thread = new Thread(r, "boundary-import-parser-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        lastBoundariesBundleBuilder.shutdownNow();
+        importParser.shutdownNow();
     }
 
     Optional<BoundaryContent> getBoundary(String boundaryId) {
-        Optional<BoundaryEntity> boundary = boundaryRepository.findById(boundaryId);
-        return boundary.map(b -> new BoundaryContent(b.getId(), b.getFilename(), b.getScenarioTime(), b.getBoundary()));
+        return metrics.getGetBoundaryTimer().record(() -> boundaryRepository.findProjectedById(boundaryId).flatMap(this::readBoundary));
+    }
+
+    /**
+     * @param boundary the metadata of the boundary, as read from the database, of the version to serve
+     */
+    Optional<BoundaryContent> getBoundary(BoundaryMetadata boundary) {
+        return metrics.getGetBoundaryTimer().record(() -> readBoundary(boundary));
+    }
+
+    private Optional<BoundaryContent> readBoundary(BoundaryMetadata boundary) {
+        if (boundary.getContentHash() == null) {
+            return Optional.empty();
+        }
+        Optional<BoundaryContent> content = Optional.ofNullable(boundaryCache.getBoundary(CgmesBoundaryCache.BoundaryKey.of(boundary),
+            key -> contentReadLimiter.read(() -> boundaryContentRepository.readContent(key.contentHash()))
+                .map(c -> new BoundaryContent(key.id(), key.filename(), key.scenarioTime(), c))
+                .orElse(null)));
+        content.map(BoundaryContent::getBoundary).ifPresent(metrics::recordContentSize);
+        return content;
     }
 
     BoundaryContent getLastBoundary(String profile) {
-        List<BoundaryContent> boundaries = getBoundariesList();
-        final String regex = String.format(REGEX, profile);
-        Optional<BoundaryContent> firstBoundary = boundaries.stream().filter(boundaryInfo -> boundaryInfo.getFilename().matches(regex)).findFirst();
-        if (firstBoundary.isEmpty()) {
+        return metrics.getGetLastBoundaryTimer().record(() -> findLastBoundaryContent(profile));
+    }
+
+    private BoundaryContent findLastBoundaryContent(String profile) {
+        String lastBoundaryId = boundaryCache.getLastBoundaryId(profile, p -> boundaryRepository.findTopByProfileOrderByScenarioTimeDesc(p)
+            .map(BoundaryMetadata::getId)
+            .orElse(null));
+        if (lastBoundaryId == null) {
             throw new PowsyblException("Boundary not found for profile " + profile);
         }
-        BoundaryContent mostRecentBoundary = firstBoundary.get();
-        for (BoundaryContent boundary : boundaries) {
-            if (boundary.getFilename().matches(regex) && boundary.getScenarioTime().isAfter(mostRecentBoundary.getScenarioTime())) {
-                mostRecentBoundary = boundary;
+        Optional<BoundaryContent> boundary = getBoundary(lastBoundaryId);
+        if (boundary.isEmpty()) {
+            // deleted through another instance since its id was cached
+            boundaryCache.invalidateLastBoundaryIds();
+            boundary = findLastBoundary(profile, null).flatMap(this::getBoundary);
+        }
+        return boundary.orElseThrow(() -> new PowsyblException("Boundary not found for profile " + profile));
+    }
+
+    /**
+     * @param at if not null, the last boundary whose scenario time is before or at this time, else the last boundary
+     */
+    BoundaryContent getLastBoundary(String profile, LocalDateTime at) {
+        if (at == null) {
+            return getLastBoundary(profile);
+        }
+        return findLastBoundary(profile, at)
+            .flatMap(this::getBoundary)
+            .orElseThrow(() -> new PowsyblException("Boundary not found for profile " + profile + " at " + at));
+    }
+
+    private Optional<BoundaryMetadata> findLastBoundary(String profile, LocalDateTime at) {
+        return at != null
+            ? boundaryRepository.findTopByProfileAndScenarioTimeLessThanEqualOrderByScenarioTimeDesc(profile, at)
+            : boundaryRepository.findTopByProfileOrderByScenarioTimeDesc(profile);
+    }
+
+    /**
+     * @return the entity tag of the JSON representation of a boundary, empty if its content hash is unknown
+     */
+    static Optional<String> getBoundaryETag(BoundaryMetadata boundary) {
+        return Optional.of(boundary)
+            .filter(b -> b.getContentHash() != null)
+            .map(b -> ContentHashing.hash(getETagParts(b)));
+    }
+
+    Optional<BoundaryMetadata> getBoundaryMetadata(String boundaryId) {
+        return boundaryRepository.findProjectedById(boundaryId);
+    }
+
+    /**
+     * @param representation name of the representation of the boundary set, with its parameters, so that
+     *                       the entity tag of a representation never validates another one
+     * @return an entity tag of a representation of the boundary set, changing whenever a boundary is imported or deleted
+     */
+    Optional<String> getBoundariesETag(String representation) {
+        List<BoundaryMetadata> boundaries = new ArrayList<>(boundaryRepository.findAllProjectedBy());
+        boundaries.sort(Comparator.comparing(BoundaryMetadata::getId));
+        return getAggregateETag(representation, boundaries);
+    }
+
+    /**
+     * @return an entity tag of the last boundaries of the given profiles, at the given time if not null
+     */
+    Optional<String> getLastBoundariesETag(List<String> profiles, LocalDateTime at) {
+        List<BoundaryMetadata> boundaries = new ArrayList<>();
+        for (String profile : profiles) {
+            Optional<BoundaryMetadata> boundary = findLastBoundary(profile, at);
+            if (boundary.isEmpty()) {
+                return Optional.empty();
+            }
+            boundaries.add(boundary.get());
+        }
+        return getAggregateETag(LAST_BOUNDARIES_REPRESENTATION, boundaries);
+    }
+
+    /**
+     * @return the JSON array of the last EQ and TP boundaries, as the last boundaries endpoint answers it, and its gzip
+     * encoding, serialized once per pair of last boundaries. Empty if a profile has no boundary.
+     */
+    Optional<LastBoundariesBundle> getLastBoundariesBundle() {
+        return metrics.getGetLastBoundaryTimer().record(this::findLastBoundariesBundle);
+    }
+
+    private Optional<LastBoundariesBundle> findLastBoundariesBundle() {
+        List<BoundaryMetadata> lastBoundaries = new ArrayList<>();
+        for (String profile : BOUNDARY_PROFILES) {
+            Optional<BoundaryMetadata> boundary = boundaryRepository.findTopByProfileOrderByScenarioTimeDesc(profile);
+            if (boundary.isEmpty()) {
+                return Optional.empty();
+            }
+            lastBoundaries.add(boundary.get());
+        }
+        Optional<String> eTag = getAggregateETag(LAST_BOUNDARIES_REPRESENTATION, lastBoundaries);
+        if (eTag.isEmpty()) {
+            return Optional.empty();
+        }
+        LastBoundariesBundle bundle = boundaryCache.getLastBoundariesBundle();
+        if (bundle != null && bundle.eTag().equals(eTag.get())) {
+            return Optional.of(bundle);
+        }
+        // concurrent requests wait for a single build
+        lastBoundariesBundleLock.lock();
+        try {
+            bundle = boundaryCache.getLastBoundariesBundle();
+            if (bundle == null || !bundle.eTag().equals(eTag.get())) {
+                bundle = lastBoundariesBundleRepository.find(eTag.get())
+                    .orElseGet(() -> buildLastBoundariesBundle(eTag.get(), lastBoundaries));
+                boundaryCache.putLastBoundariesBundle(bundle);
+            }
+            return Optional.of(bundle);
+        } finally {
+            lastBoundariesBundleLock.unlock();
+        }
+    }
+
+    /**
+     * @param lastBoundaries the versions of the boundaries the ETag is computed from, whose contents are read by hash
+     */
+    private LastBoundariesBundle buildLastBoundariesBundle(String eTag, List<BoundaryMetadata> lastBoundaries) {
+        List<BoundaryContent> boundaries = lastBoundaries.stream()
+            .map(b -> getBoundary(b).orElseThrow(() -> new PowsyblException("Boundary not found for id " + b.getId())))
+            .toList();
+        LastBoundariesBundle bundle;
+        try {
+            byte[] content = objectMapper.writeValueAsBytes(boundaries);
+            ByteArrayOutputStream gzipContent = new ByteArrayOutputStream();
+            try (OutputStream os = BoundaryContentFormat.GZIP.encode(gzipContent)) {
+                os.write(content);
             }
+            bundle = new LastBoundariesBundle(eTag, content, gzipContent.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        return mostRecentBoundary;
+        lastBoundariesBundleRepository.save(bundle);
+        return bundle;
     }
 
+    /**
+     * Build the bundle of the new last boundaries as soon as they are committed, rather than on the next request,
+     * in the background not to delay the response to the import or the deletion.
+     */
+    @TransactionalEventListener
+    void onLastBoundariesChanged(LastBoundariesNotifier.LastBoundariesChangedEvent event) {
+        lastBoundariesBundleBuilder.execute(() -> {
+            try {
+                findLastBoundariesBundle();
+            } catch (RuntimeException e) {
+                // built again by the next request
+                LOGGER.warn("Could not build the last boundaries bundle", e);
+            }
+        });
+    }
+
+    /**
+     * Wait for the builds of the last boundaries bundle submitted so far.
+     */
+    void awaitLastBoundariesBundleBuilds() throws InterruptedException, ExecutionException {
+        lastBoundariesBundleBuilder.submit(() -> { }).get();
+    }
+
+    /**
+     * @return the JSON array of the last boundaries of the given profiles, at the given time if not null
+     */
+    byte[] getLastBoundariesJson(List<String> profiles, LocalDateTime at) {
+        List<BoundaryContent> boundaries = profiles.stream().map(p -> getLastBoundary(p, at)).toList();
+        try {
+            return objectMapper.writeValueAsBytes(boundaries);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return the last boundary of each profile having one
+     */
+    List<BoundaryInfo> getLastBoundariesInfos() {
+        return List.copyOf(getLastBoundariesByProfile().values());
+    }
+
+    private Map<String, BoundaryInfo> getLastBoundariesByProfile() {
+        Map<String, BoundaryInfo> lastBoundaries = new LinkedHashMap<>();
+        for (String profile : BOUNDARY_PROFILES) {
+            boundaryRepository.findTopByProfileOrderByScenarioTimeDesc(profile)
+                .ifPresent(b -> lastBoundaries.put(profile, new BoundaryInfo(b.getId(), b.getFilename(), b.getScenarioTime())));
+        }
+        return lastBoundaries;
+    }
+
+    /**
+     * Notify the subscribers, once the transaction is committed, of the last boundaries that are not the same anymore,
+     * and of the profiles that have no boundary anymore.
+     */
+    private void publishLastBoundariesChanges(Map<String, BoundaryInfo> previousLastBoundaries) {
+        Map<String, BoundaryInfo> lastBoundaries = getLastBoundariesByProfile();
+        List<BoundaryInfo> changed = lastBoundaries.entrySet().stream()
+            .filter(b -> previousLastBoundaries.get(b.getKey()) == null || !previousLastBoundaries.get(b.getKey()).getId().equals(b.getValue().getId()))
+            .map(Map.Entry::getValue)
+            .toList();
+        List<String> removedProfiles = previousLastBoundaries.keySet().stream().filter(p -> !lastBoundaries.containsKey(p)).toList();
+        if (!changed.isEmpty() || !removedProfiles.isEmpty()) {
+            eventPublisher.publishEvent(new LastBoundariesNotifier.LastBoundariesChangedEvent(changed, removedProfiles));
+        }
+    }
+
+    private static Optional<String> getAggregateETag(String representation, List<BoundaryMetadata> boundaries) {
+        if (boundaries.stream().anyMatch(b -> b.getContentHash() == null)) {
+            return Optional.empty();
+        }
+        List<String> parts = new ArrayList<>();
+        parts.add(representation);
+        boundaries.forEach(b -> parts.addAll(getETagParts(b)));
+        return Optional.of(ContentHashing.hash(parts));
+    }
+
+    private static List<String> getETagParts(BoundaryMetadata boundary) {
+        return Arrays.asList(boundary.getId(), boundary.getFilename(), Objects.toString(boundary.getScenarioTime(), null), boundary.getContentHash());
+    }
+
+    /**
+     * Boundary profile (EQ or TP) of an imported file, taken from the FullModel profile URIs
+     * and falling back on the ENTSO-E file naming convention.
+     */
+    static String getProfile(FullModel fullModel, String filename) {
+        String profile = getHeaderProfile(fullModel.getProfiles());
+        return profile != null ? profile : getFilenameProfile(filename);
+    }
+
+    /**
+     * @return the boundary profile (EQ or TP) of the FullModel profile URIs, null if there is none
+     */
+    static String getHeaderProfile(Collection<String> profileUris) {
+        for (String profileUri : profileUris) {
+            if (profileUri.contains(EQ_BOUNDARY_PROFILE_URI)) {
+                return "EQ";
+            } else if (profileUri.contains(TP_BOUNDARY_PROFILE_URI)) {
+                return "TP";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the boundary profile (EQ or TP) of a file named after the ENTSO-E convention, null otherwise
+     */
+    static String getFilenameProfile(String filename) {
+        if (filename != null) {
+            Matcher matcher = FILENAME_PROFILE_PATTERN.matcher(filename);
+            if (matcher.matches()) {
+                return matcher.group(1);
+            }
+        }
+        return null;
+    }
+
+    @Transactional
     String importBoundary(MultipartFile mpfFile) {
-        String id;
-        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(mpfFile.getBytes()))) {
-            FullModel fullModel = FullModel.parse(reader);
-            id = fullModel.getId();
+        return importBoundaries(List.of(mpfFile)).get(0);
+    }
 
-            String filename = mpfFile.getOriginalFilename();
-            LocalDateTime scenarioTime = fullModel.getScenarioTime().toLocalDateTime();
+    /**
+     * Import boundary files, and boundary files found in zip archives, in a single transaction. A boundary found in
+     * several files is imported from the last one.
+     *
+     * @return the ids of the imported boundaries, in the order of the files
+     */
+    @Transactional
+    List<String> importBoundaries(List<MultipartFile> files) {
+        List<UploadedBoundary> uploads = new ArrayList<>();
+        Map<String, BoundaryInfo> previousLastBoundaries = getLastBoundariesByProfile();
+        try {
+            for (MultipartFile file : files) {
+                metrics.getImportSize().record(file.getSize());
+                spool(file, uploads);
+            }
+            if (uploads.isEmpty()) {
+                throw new PowsyblException("No boundary file to import");
+            }
 
-            BoundaryEntity entity = new BoundaryEntity(fullModel.getId(), filename, new String(mpfFile.getBytes(), StandardCharsets.UTF_8), scenarioTime);
-            boundaryRepository.save(entity);
+            // same content means same FullModel header: neither parse it nor store the content again
+            // unless the boundary is not indexed yet, imported before the index of the boundary points
+            Map<String, BoundaryEntity> boundariesByContentHash = new HashMap<>();
+            for (UploadedBoundary upload : uploads) {
+                boundaryRepository.findFirstByContentHash(upload.content().getHash())
+                    .filter(b -> boundaryNodeRepository.existsByBoundaryId(b.getId()) || boundaryBaseVoltageRepository.existsByBoundaryId(b.getId()))
+                    .ifPresent(b -> boundariesByContentHash.put(b.getContentHash(), b));
+            }
+            // new contents are parsed in parallel
+            List<ParsedBoundary> parsedBoundaries = metrics.getImportParseTimer().record(() -> parse(uploads, boundariesByContentHash));
+            Timer.Sample persistSample = metrics.start();
+
+            // the same boundary uploaded twice, in a zip archive and as a file for instance: the last one is imported
+            Map<String, Integer> lastUploadsById = new HashMap<>();
+            for (int i = 0; i < parsedBoundaries.size(); i++) {
+                lastUploadsById.put(parsedBoundaries.get(i).entity().getId(), i);
+            }
+            List<Integer> importedUploads = lastUploadsById.values().stream().sorted().toList();
+            List<ParsedBoundary> importedBoundaries = importedUploads.stream().map(parsedBoundaries::get).toList();
+            List<BoundaryEntity> boundaries = importedBoundaries.stream().map(ParsedBoundary::entity).toList();
+
+            Set<String> previousContentHashes = new HashSet<>();
+            for (int i : importedUploads) {
+                SpooledContent content = uploads.get(i).content();
+                BoundaryEntity boundary = parsedBoundaries.get(i).entity();
+                if (!boundariesByContentHash.containsKey(content.getHash())) {
+                    boundaryContentRepository.saveContent(content);
+                }
+                Optional<BoundaryMetadata> previous = boundaryRepository.findProjectedById(boundary.getId());
+                if (previous.isEmpty()) {
+                    boundary.markNew();
+                }
+                previous.map(BoundaryMetadata::getContentHash)
+                    .filter(hash -> !hash.equals(content.getHash()))
+                    .ifPresent(previousContentHashes::add);
+            }
+            boundaryRepository.saveAll(boundaries);
+            boundaryRepository.flush();
+            previousContentHashes.forEach(this::deleteContentIfUnused);
+            saveIndexes(importedBoundaries);
+
+            List<String> ids = boundaries.stream().map(BoundaryEntity::getId).toList();
+            boundaryChangeRepository.recordChanges(ids, false);
+            invalidateBoundariesAfterCommit(ids);
+            eventPublisher.publishEvent(new BoundaryValidationService.BoundariesImportedEvent(ids));
+            publishLastBoundariesChanges(previousLastBoundaries);
+            persistSample.stop(metrics.getImportPersistTimer());
+            return parsedBoundaries.stream().map(parsed -> parsed.entity().getId()).toList();
         } catch (IOException e) {
             throw new UncheckedIOException(e);
+        } finally {
+            uploads.forEach(upload -> closeQuietly(upload.content()));
         }
-        return id;
     }
 
-    List<BoundaryContent> getBoundariesList() {
-        List<BoundaryEntity> boundaries = boundaryRepository.findAll();
-        return boundaries.stream().map(b ->
-            new BoundaryContent(b.getId(), b.getFilename(), b.getScenarioTime(), b.getBoundary())
-        ).collect(Collectors.toList());
+    private record UploadedBoundary(String filename, SpooledContent content) {
     }
 
-    List<BoundaryInfo> getBoundariesInfosList() {
-        List<BoundaryEntity> boundaries = boundaryRepository.findAll();
-        return boundaries.stream().map(b -> new BoundaryInfo(b.getId(), b.getFilename(), b.getScenarioTime())).collect(Collectors.toList());
+    /**
+     * @param index boundary points of the boundary, null if its content is already indexed
+     */
+    private record ParsedBoundary(BoundaryEntity entity, BoundaryIndexParser.BoundaryIndex index) {
     }
 
-    Boolean boundaryExists(String boundaryId) {
-        return boundaryRepository.findById(boundaryId).isPresent();
+    /**
+     * Spool an uploaded boundary file, or each boundary file of an uploaded zip archive.
+     */
+    private void spool(MultipartFile file, List<UploadedBoundary> uploads) throws IOException {
+        String filename = file.getOriginalFilename();
+        try (InputStream is = file.getInputStream()) {
+            if (filename != null && filename.toLowerCase(Locale.ROOT).endsWith(ZIP_EXTENSION)) {
+                ZipInputStream zis = new ZipInputStream(is);
+                ZipEntry entry;
+                while ((entry = zis.getNextEntry()) != null) {
+                    String entryName = entry.getName().substring(entry.getName().lastIndexOf('/') + 1);
+                    if (!entry.isDirectory() && entryName.toLowerCase(Locale.ROOT).endsWith(XML_EXTENSION)) {
+                        uploads.add(new UploadedBoundary(entryName, boundaryContentRepository.spool(zis)));
+                    }
+                }
+            } else {
+                uploads.add(new UploadedBoundary(filename, boundaryContentRepository.spool(is)));
+            }
+        }
     }
 
-    Optional<Set<String>> getTsos() {
-        Optional<TsosListEntity> tsosList = tsosRepository.findById(TSOS_LIST_NAME);
-        return tsosList.map(t -> {
-            Set<String> res = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-            JSONArray array = new JSONArray(t.getTsos());
-            for (int i = 0; i < array.length(); ++i) {
-                res.add(array.getString(i));
+    private List<ParsedBoundary> parse(List<UploadedBoundary> uploads, Map<String, BoundaryEntity> boundariesByContentHash) {
+        List<Future<ParsedBoundary>> futures = uploads.stream()
+            .map(upload -> importParser.submit(() -> toBoundary(upload, boundariesByContentHash.get(upload.content().getHash()))))
+            .toList();
+        try {
+            List<ParsedBoundary> parsedBoundaries = new ArrayList<>(futures.size());
+            for (Future<ParsedBoundary> future : futures) {
+                parsedBoundaries.add(future.get());
             }
-            return res;
-        });
+            return parsedBoundaries;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PowsyblException("Interrupted while parsing the boundary files");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new PowsyblException(e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
     }
 
-    Optional<Set<String>> getBusinessProcesses() {
-        Optional<BusinessProcessesListEntity> businessProcessesList = businessProcessesRepository.findById(BUSINESS_PROCESS_LIST_NAME);
-        return businessProcessesList.map(t -> {
-            Set<String> res = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-            JSONArray array = new JSONArray(t.getBusinessProcesses());
-            for (int i = 0; i < array.length(); ++i) {
-                res.add(array.getString(i));
+    private static ParsedBoundary toBoundary(UploadedBoundary upload, BoundaryEntity sameContentBoundary) {
+        if (sameContentBoundary != null) {
+            return new ParsedBoundary(new BoundaryEntity(sameContentBoundary.getId(), upload.filename(), sameContentBoundary.getScenarioTime(),
+                sameContentBoundary.getProfile(), sameContentBoundary.getContentHash(), upload.content().getLength()), null);
+        }
+        FullModel fullModel;
+        try (Reader reader = new InputStreamReader(upload.content().openDecoded(), StandardCharsets.UTF_8)) {
+            fullModel = FullModel.parse(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        BoundaryIndexParser.BoundaryIndex index;
+        try {
+            index = BoundaryIndexParser.parse(fullModel.getId(), upload.content()::openDecoded);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new ParsedBoundary(new BoundaryEntity(fullModel.getId(), upload.filename(), fullModel.getScenarioTime().toLocalDateTime(),
+            getProfile(fullModel, upload.filename()), upload.content().getHash(), upload.content().getLength()), index);
+    }
+
+    /**
+     * Replace the boundary points and base voltages indexed for the newly parsed boundaries. Nominal voltages
+     * of topological nodes whose base voltage is defined in another boundary file are resolved from the files
+     * of the batch and from the already indexed boundaries.
+     */
+    private void saveIndexes(List<ParsedBoundary> parsedBoundaries) {
+        List<BoundaryNodeEntity> nodes = new ArrayList<>();
+        List<BoundaryBaseVoltageEntity> baseVoltages = new ArrayList<>();
+        for (ParsedBoundary parsedBoundary : parsedBoundaries) {
+            if (parsedBoundary.index() != null) {
+                boundaryNodeRepository.deleteByBoundaryId(parsedBoundary.entity().getId());
+                boundaryBaseVoltageRepository.deleteByBoundaryId(parsedBoundary.entity().getId());
+                nodes.addAll(parsedBoundary.index().nodes());
+                baseVoltages.addAll(parsedBoundary.index().baseVoltages());
             }
-            return res;
-        });
+        }
+        if (nodes.isEmpty() && baseVoltages.isEmpty()) {
+            return;
+        }
+
+        Set<String> unresolvedBaseVoltageIds = nodes.stream()
+            .filter(n -> n.getNominalVoltage() == null && n.getBaseVoltageId() != null)
+            .map(BoundaryNodeEntity::getBaseVoltageId)
+            .collect(Collectors.toSet());
+        if (!unresolvedBaseVoltageIds.isEmpty()) {
+            Map<String, Double> nominalVoltages = new HashMap<>();
+            boundaryBaseVoltageRepository.findByBaseVoltageIdIn(unresolvedBaseVoltageIds)
+                .forEach(v -> nominalVoltages.put(v.getBaseVoltageId(), v.getNominalVoltage()));
+            baseVoltages.forEach(v -> nominalVoltages.put(v.getBaseVoltageId(), v.getNominalVoltage()));
+            nodes.stream()
+                .filter(n -> n.getNominalVoltage() == null && n.getBaseVoltageId() != null)
+                .forEach(n -> n.setNominalVoltage(nominalVoltages.get(n.getBaseVoltageId())));
+        }
+
+        boundaryBaseVoltageRepository.saveAll(baseVoltages);
+        boundaryNodeRepository.saveAll(nodes);
+    }
+
+    private static void closeQuietly(SpooledContent content) {
+        try {
+            content.close();
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete spooled boundary {}", content.getFile(), e);
+        }
+    }
+
+    private void deleteContentIfUnused(String contentHash) {
+        if (contentHash != null && !boundaryRepository.existsByContentHash(contentHash)) {
+            boundaryContentRepository.deleteContent(contentHash);
+        }
+    }
+
+    Optional<Long> getContentSize(String contentHash) {
+        return boundaryContentRepository.getContentSize(contentHash);
+    }
+
+    Optional<BoundaryContentFormat> getContentFormat(String contentHash) {
+        return boundaryContentRepository.getContentFormat(contentHash);
+    }
+
+    /**
+     * Write the XML content of a boundary, streamed from the database.
+     * <p>
+     * The content reads are bounded by the {@link ContentReadLimiter} before their read transaction is started,
+     * so that the reads waiting for a permit hold no pooled connection.
+     *
+     * @param encoded true to write the content as stored, in its storage format, without decoding it
+     * @return false if the content does not exist
+     */
+    boolean writeContent(String contentHash, OutputStream outputStream, boolean encoded) {
+        return contentReadLimiter.read(() -> boundaryContentRepository.copyContent(contentHash, outputStream, !encoded));
+    }
+
+    /**
+     * Write a byte range of the XML content of a boundary, reading only this range from the storage when possible.
+     *
+     * @param encoded true for a range of the content as stored, in its storage format
+     * @return false if the content does not exist
+     */
+    boolean writeContentRange(String contentHash, OutputStream outputStream, boolean encoded, long offset, long length) {
+        return contentReadLimiter.read(() -> boundaryContentRepository.copyContentRange(contentHash, outputStream, !encoded, offset, length));
+    }
+
+    /**
+     * Write the JSON list of the boundaries selected by the filter, serializing them one at a time from a database cursor.
+     */
+    void writeBoundariesList(BoundaryFilter filter, OutputStream outputStream) throws IOException {
+        Timer.Sample sample = metrics.start();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            contentReadLimiter.read(() -> boundaryContentRepository.forEachBoundary(filter, (id, filename, scenarioTime, content) -> {
+                generator.writeStartObject();
+                generator.writeStringField("id", id);
+                generator.writeStringField("filename", filename);
+                if (scenarioTime != null) {
+                    generator.writeObjectField("scenarioTime", scenarioTime);
+                }
+                generator.writeFieldName("boundary");
+                if (content != null) {
+                    generator.writeString(content, -1);
+                } else {
+                    generator.writeNull();
+                }
+                generator.writeEndObject();
+            }));
+            generator.writeEndArray();
+        } finally {
+            sample.stop(metrics.getListContentsTimer());
+        }
+    }
+
+    /**
+     * @param tso if not null, only the boundary points having this TSO at one of their ends
+     * @return the boundary points of a boundary, answered from the boundary index
+     */
+    List<BoundaryNode> getBoundaryNodes(String boundaryId, String tso) {
+        if (!boundaryRepository.existsById(boundaryId)) {
+            throw new PowsyblException("Boundary not found for id " + boundaryId);
+        }
+        List<BoundaryNodeEntity> nodes = tso != null
+            ? boundaryNodeRepository.findByBoundaryIdAndTso(boundaryId, tso)
+            : boundaryNodeRepository.findByBoundaryIdOrderByNodeId(boundaryId);
+        return nodes.stream().map(CgmesBoundaryService::toBoundaryNode).toList();
+    }
+
+    private static BoundaryNode toBoundaryNode(BoundaryNodeEntity node) {
+        return BoundaryNode.builder()
+            .id(node.getNodeId())
+            .type(node.getNodeType())
+            .name(node.getName())
+            .lineId(node.getLineId())
+            .lineName(node.getLineName())
+            .topologicalNodeId(node.getTopologicalNodeId())
+            .nominalVoltage(node.getNominalVoltage())
+            .fromEndIsoCode(node.getFromEndIsoCode())
+            .fromEndName(node.getFromEndName())
+            .fromEndNameTso(node.getFromEndNameTso())
+            .toEndIsoCode(node.getToEndIsoCode())
+            .toEndName(node.getToEndName())
+            .toEndNameTso(node.getToEndNameTso())
+            .build();
+    }
+
+    /**
+     * @return the boundaries imported or deleted after a revision of the boundary set, each one with its last change only
+     */
+    BoundaryChanges getChanges(long since) {
+        // read first: changes recorded meanwhile are returned again with the next request
+        long revision = boundaryChangeRepository.getRevision();
+        List<String> added = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        boundaryChangeRepository.getChanges(since).forEach((id, isRemoved) -> (isRemoved ? removed : added).add(id));
+        return new BoundaryChanges(revision, added, removed);
+    }
+
+    List<BoundaryInfo> getBoundariesInfosList(BoundaryFilter filter) {
+        List<BoundaryEntity> boundaries = metrics.getListInfosTimer().record(() -> boundaryRepository.findAll(filter));
+        return boundaries.stream().map(b -> new BoundaryInfo(b.getId(), b.getFilename(), b.getScenarioTime())).collect(Collectors.toList());
+    }
+
+    /**
+     * @return the cursor of the page following the one selected by the filter, empty if it is the last page
+     */
+    Optional<BoundaryCursor> getNextCursor(BoundaryFilter filter, List<BoundaryInfo> page) {
+        if (!filter.isPaged() || page.size() < filter.limit()) {
+            return Optional.empty();
+        }
+        BoundaryInfo last = page.get(page.size() - 1);
+        return Optional.of(new BoundaryCursor(last.getScenarioTime(), last.getId()));
+    }
+
+    boolean boundaryExists(String boundaryId) {
+        return boundaryRepository.existsById(boundaryId);
+    }
+
+    /**
+     * @return for each distinct id, in the requested order, whether the boundary exists
+     */
+    Map<String, Boolean> boundariesExist(Collection<String> boundaryIds) {
+        List<String> ids = boundaryIds.stream().distinct().toList();
+        Set<String> existingIds = new HashSet<>();
+        for (int i = 0; i < ids.size(); i += MAX_IDS_PER_QUERY) {
+            existingIds.addAll(boundaryRepository.findExistingIds(ids.subList(i, Math.min(i + MAX_IDS_PER_QUERY, ids.size()))));
+        }
+        Map<String, Boolean> exist = new LinkedHashMap<>();
+        ids.forEach(id -> exist.put(id, existingIds.contains(id)));
+        return exist;
+    }
+
+    /**
+     * @return the JSON array of the TSOs, sorted case-insensitively
+     */
+    Optional<String> getTsos() {
+        return Optional.ofNullable(boundaryCache.getList(TSOS_LIST_NAME, name -> tsosRepository.findById(name)
+            .map(TsosListEntity::getTsos)
+            .map(NameLists::normalizeStored)
+            .orElse(null)));
+    }
+
+    /**
+     * @return the JSON array of the business processes, sorted case-insensitively
+     */
+    Optional<String> getBusinessProcesses() {
+        return Optional.ofNullable(boundaryCache.getList(BUSINESS_PROCESS_LIST_NAME, name -> businessProcessesRepository.findById(name)
+            .map(BusinessProcessesListEntity::getBusinessProcesses)
+            .map(NameLists::normalizeStored)
+            .orElse(null)));
+    }
+
+    /**
+     * Validate a JSON array of names and serialize it again normalized, see {@link NameLists}.
+     */
+    static String normalizeList(String json) {
+        try {
+            return NameLists.normalize(json);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
     }
 
     void importTsos(MultipartFile tsosFile) {
         try {
-            TsosListEntity entity = new TsosListEntity(TSOS_LIST_NAME, new String(tsosFile.getBytes(), StandardCharsets.UTF_8));
+            TsosListEntity entity = new TsosListEntity(TSOS_LIST_NAME, normalizeList(new String(tsosFile.getBytes(), StandardCharsets.UTF_8)));
             tsosRepository.save(entity);
+            boundaryCache.invalidateList(TSOS_LIST_NAME);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -147,16 +847,48 @@ class CgmesBoundaryService {
 
     void importBusinessProcesses(MultipartFile businessProcessesFile) {
         try {
-            BusinessProcessesListEntity entity = new BusinessProcessesListEntity(BUSINESS_PROCESS_LIST_NAME, new String(businessProcessesFile.getBytes(), StandardCharsets.UTF_8));
+            BusinessProcessesListEntity entity = new BusinessProcessesListEntity(BUSINESS_PROCESS_LIST_NAME,
+                normalizeList(new String(businessProcessesFile.getBytes(), StandardCharsets.UTF_8)));
             businessProcessesRepository.save(entity);
+            boundaryCache.invalidateList(BUSINESS_PROCESS_LIST_NAME);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
+    /**
+     * Evict boundaries from the cache once the transaction changing them is committed, before the listeners of its
+     * events run: evicted before the commit, a concurrent read could cache them again as they were.
+     */
+    private void invalidateBoundariesAfterCommit(List<String> ids) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public int getOrder() {
+                    return Ordered.HIGHEST_PRECEDENCE;
+                }
+
+                @Override
+                public void afterCommit() {
+                    ids.forEach(boundaryCache::invalidateBoundary);
+                }
+            });
+        } else {
+            ids.forEach(boundaryCache::invalidateBoundary);
+        }
+    }
+
+    @Transactional
     void deleteBoundary(String boundaryId) {
-        if (boundaryRepository.existsById(boundaryId)) {
+        Optional<BoundaryMetadata> boundary = boundaryRepository.findProjectedById(boundaryId);
+        if (boundary.isPresent()) {
+            Map<String, BoundaryInfo> previousLastBoundaries = getLastBoundariesByProfile();
             boundaryRepository.deleteById(boundaryId);
+            boundaryRepository.flush();
+            deleteContentIfUnused(boundary.get().getContentHash());
+            boundaryChangeRepository.recordChanges(List.of(boundaryId), true);
+            invalidateBoundariesAfterCommit(List.of(boundaryId));
+            publishLastBoundariesChanges(previousLastBoundaries);
         } else {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND);
         }
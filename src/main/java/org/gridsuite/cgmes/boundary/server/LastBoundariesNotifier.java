@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server;
+
+import jakarta.annotation.PreDestroy;
+import org.gridsuite.cgmes.boundary.server.dto.BoundaryInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Server-sent events subscriptions notified with the new last boundary of a profile, once the import
+ * or the deletion changing it is committed, and with the profiles having no boundary anymore.
+ * Events are sent off the request threads, in order for each subscription, and each subscription is sent its events
+ * separately so that a slow subscriber neither delays an import nor the other subscribers. A subscriber falling too
+ * far behind is completed.
+ */
+@Component
+class LastBoundariesNotifier {
+
+    static final String LAST_BOUNDARY_EVENT = "last-boundary";
+    static final String LAST_BOUNDARY_REMOVED_EVENT = "last-boundary-removed";
+
+    /**
+     * Events waiting to be sent to a subscription beyond which it is completed.
+     */
+    static final int MAX_PENDING_EVENTS = 100;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LastBoundariesNotifier.class);
+
+    /**
+     * @param removedProfiles profiles whose last boundary has been deleted, without any other boundary
+     */
+    record LastBoundariesChangedEvent(List<BoundaryInfo> boundaries, List<String> removedProfiles) {
+    }
+
+    /**
+     * Events of a subscription, sent by one sender thread at a time.
+     */
+    private static final class Subscription {
+
+        private final SseEmitter emitter;
+
+        private final Queue<SseEmitter.SseEventBuilder> events = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger pendingCount = new AtomicInteger();
+
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        private final AtomicBoolean tooFarBehind = new AtomicBoolean();
+
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private Subscription(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    private final Duration timeout;
+
+    private final ExecutorService sender;
+
+    LastBoundariesNotifier(@Value("${cgmes-boundary-server.notification.timeout:30m}") Duration timeout) {
+        this.timeout = timeout;
+        AtomicInteger threadNumber = new AtomicInteger();
+        // at most one thread per subscription sending events, so that a subscriber blocked on a write never holds back the others
+        this.sender = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "last-boundaries-notifier-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sender.shutdownNow();
+    }
+
+    /**
+     * @param lastBoundaries read once the subscription is registered, and sent first, so that no change committed
+     *                       meanwhile is missed
+     */
+    SseEmitter subscribe(Supplier<List<BoundaryInfo>> lastBoundaries) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscription subscription = new Subscription(emitter);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(e -> subscriptions.remove(subscription));
+        subscriptions.add(subscription);
+        List<BoundaryInfo> boundaries = lastBoundaries.get();
+        boundaries.forEach(boundary -> send(subscription, LAST_BOUNDARY_EVENT, boundary, MediaType.APPLICATION_JSON));
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    void onLastBoundariesChanged(LastBoundariesChangedEvent event) {
+        for (Subscription subscription : subscriptions) {
+            event.boundaries().forEach(boundary -> send(subscription, LAST_BOUNDARY_EVENT, boundary, MediaType.APPLICATION_JSON));
+            event.removedProfiles().forEach(profile -> send(subscription, LAST_BOUNDARY_REMOVED_EVENT, profile, MediaType.TEXT_PLAIN));
+        }
+    }
+
+    int getSubscriptionsCount() {
+        return subscriptions.size();
+    }
+
+    private void send(Subscription subscription, String name, Object data, MediaType mediaType) {
+        if (subscription.pendingCount.incrementAndGet() > MAX_PENDING_EVENTS) {
+            // completed by its sender thread, not to wait for the write it may be blocked on
+            if (subscription.tooFarBehind.compareAndSet(false, true)) {
+                LOGGER.debug("Last boundaries subscription too far behind, completed");
+                remove(subscription);
+                schedule(subscription);
+            }
+            return;
+        }
+        subscription.events.add(SseEmitter.event().name(name).data(data, mediaType));
+        schedule(subscription);
+    }
+
+    private void schedule(Subscription subscription) {
+        if (subscription.sending.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscription));
+        }
+    }
+
+    private void drain(Subscription subscription) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (subscriptions.contains(subscription) && (event = subscription.events.poll()) != null) {
+                subscription.pendingCount.decrementAndGet();
+                subscription.emitter.send(event);
+            }
+            if (subscription.tooFarBehind.get() && subscription.completed.compareAndSet(false, true)) {
+                subscription.emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // client gone
+            LOGGER.debug("Could not notify a last boundaries subscription", e);
+            remove(subscription);
+        } finally {
+            subscription.sending.set(false);
+        }
+        if (hasPendingWork(subscription)) {
+            schedule(subscription);
+        }
+    }
+
+    /**
+     * @return whether events or the completion have been queued for the subscription after its sender thread stopped
+     */
+    private boolean hasPendingWork(Subscription subscription) {
+        if (subscription.tooFarBehind.get()) {
+            return !subscription.completed.get();
+        }
+        return !subscription.events.isEmpty() && subscriptions.contains(subscription);
+    }
+
+    private void remove(Subscription subscription) {
+        subscriptions.remove(subscription);
+        subscription.events.clear();
+    }
+}
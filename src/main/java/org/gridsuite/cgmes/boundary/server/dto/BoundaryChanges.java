@@ -0,0 +1,33 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Changes of the boundary set after a revision.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Schema(description = "Boundary set changes")
+public class BoundaryChanges {
+
+    @Schema(description = "Current revision of the boundary set, to ask for the next changes")
+    private long revision;
+
+    @Schema(description = "Ids of the boundaries imported, or imported again, since the requested revision")
+    private List<String> added;
+
+    @Schema(description = "Ids of the boundaries deleted since the requested revision")
+    private List<String> removed;
+}
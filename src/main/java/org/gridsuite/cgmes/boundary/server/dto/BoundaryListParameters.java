@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filtering and paging parameters of the boundaries lists.
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+public class BoundaryListParameters {
+
+    @Schema(description = "Boundary profile, EQ or TP")
+    private String profile;
+
+    @Schema(description = "Filename pattern, '*' matching any sequence of characters and '?' any single character")
+    private String filename;
+
+    @Schema(description = "Minimum scenario time, inclusive")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @Schema(description = "Maximum scenario time, inclusive")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    @Schema(description = "Maximum number of boundaries returned, the next page is linked in the Link header")
+    private Integer limit;
+
+    @Schema(description = "Cursor of the page, taken from the Link header of the previous page")
+    private String after;
+
+    @Schema(description = "Order by scenario time, ASC or DESC")
+    private Sort.Direction order = Sort.Direction.ASC;
+}
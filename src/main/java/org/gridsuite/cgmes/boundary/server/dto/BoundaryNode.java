@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Boundary point of a boundary, answered from the boundary index.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Boundary node")
+public class BoundaryNode {
+
+    private String id;
+
+    private String type;
+
+    private String name;
+
+    private String lineId;
+
+    private String lineName;
+
+    private String topologicalNodeId;
+
+    private Double nominalVoltage;
+
+    private String fromEndIsoCode;
+
+    private String fromEndName;
+
+    private String fromEndNameTso;
+
+    private String toEndIsoCode;
+
+    private String toEndName;
+
+    private String toEndNameTso;
+}
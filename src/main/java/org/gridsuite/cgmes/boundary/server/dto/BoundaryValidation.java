@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Status of the background validation of an imported boundary.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Schema(description = "Boundary validation")
+public class BoundaryValidation {
+
+    private String boundaryId;
+
+    @Schema(description = "PENDING, RUNNING, VALID, INVALID, or FAILED when the validation could not be done")
+    private String status;
+
+    private List<String> errors;
+
+    private LocalDateTime updated;
+}
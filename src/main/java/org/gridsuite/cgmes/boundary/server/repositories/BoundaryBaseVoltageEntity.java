@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.repositories;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+
+import java.util.UUID;
+
+/**
+ * Base voltage defined in a boundary file, used to resolve the nominal voltage of the topological nodes
+ * of the boundary files depending on it.
+ */
+@NoArgsConstructor
+@Getter
+@Table(name = "boundary_base_voltages")
+@Entity
+public class BoundaryBaseVoltageEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    private String boundaryId;
+
+    private String baseVoltageId;
+
+    private double nominalVoltage;
+
+    public BoundaryBaseVoltageEntity(String boundaryId, String baseVoltageId, double nominalVoltage) {
+        this.boundaryId = boundaryId;
+        this.baseVoltageId = baseVoltageId;
+        this.nominalVoltage = nominalVoltage;
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Log of the changes of the boundary set, for clients keeping a mirror of it.
+ * <p>
+ * Every transaction importing or deleting boundaries bumps the revision of the boundary set and records
+ * the ids it changed with this revision. The revision counter is a single row updated in the transaction:
+ * its row lock serializes the writers, so revisions become visible in increasing order and a client
+ * asking for the changes after the last revision it has seen never misses one. Only the last change of
+ * each boundary is kept.
+ */
+@Repository
+public class BoundaryChangeRepository {
+
+    private static final String BOUNDARY_SET = "boundaries";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BoundaryChangeRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public long getRevision() {
+        Long revision = jdbcTemplate.queryForObject("SELECT revision FROM boundary_set_revision WHERE name = ?", Long.class, BOUNDARY_SET);
+        return revision != null ? revision : 0;
+    }
+
+    /**
+     * Record changed boundaries with a new revision of the boundary set.
+     *
+     * @param removed true if the boundaries have been deleted, false if they have been imported
+     * @return the new revision
+     */
+    @Transactional
+    public long recordChanges(Collection<String> boundaryIds, boolean removed) {
+        jdbcTemplate.update("UPDATE boundary_set_revision SET revision = revision + 1 WHERE name = ?", BOUNDARY_SET);
+        long revision = getRevision();
+        List<Object[]> ids = new ArrayList<>();
+        new LinkedHashSet<>(boundaryIds).forEach(id -> ids.add(new Object[] {id}));
+        jdbcTemplate.batchUpdate("DELETE FROM boundary_changes WHERE boundary_id = ?", ids);
+        List<Object[]> changes = ids.stream().map(id -> new Object[] {revision, id[0], removed}).toList();
+        jdbcTemplate.batchUpdate("INSERT INTO boundary_changes (revision, boundary_id, removed) VALUES (?, ?, ?)", changes);
+        return revision;
+    }
+
+    /**
+     * @return the boundaries changed after a revision, and whether they have been removed, in revision order
+     */
+    public Map<String, Boolean> getChanges(long since) {
+        Map<String, Boolean> changes = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT boundary_id, removed FROM boundary_changes WHERE revision > ? ORDER BY revision, boundary_id",
+            rs -> {
+                changes.put(rs.getString(1), rs.getBoolean(2));
+            }, since);
+        return changes;
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.repositories;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Storage format of a boundary content.
+ */
+public enum BoundaryContentFormat {
+    PLAIN {
+        @Override
+        public OutputStream encode(OutputStream os) {
+            return os;
+        }
+
+        @Override
+        public InputStream decode(InputStream is) {
+            return is;
+        }
+    },
+    GZIP {
+        @Override
+        public OutputStream encode(OutputStream os) throws IOException {
+            return new GZIPOutputStream(os, BUFFER_SIZE);
+        }
+
+        @Override
+        public InputStream decode(InputStream is) throws IOException {
+            return new GZIPInputStream(is, BUFFER_SIZE);
+        }
+    };
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    public abstract OutputStream encode(OutputStream os) throws IOException;
+
+    public abstract InputStream decode(InputStream is) throws IOException;
+
+    /**
+     * Rows stored before the format column existed are plain.
+     */
+    public static BoundaryContentFormat of(String name) {
+        return name != null ? valueOf(name) : PLAIN;
+    }
+}
@@ -0,0 +1,300 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.repositories;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Content-addressed storage of boundary contents: each distinct content is stored once, keyed by its SHA-256 hash,
+ * and referenced by the boundaries. The boundary_contents table holds the metadata of the contents, their bytes
+ * are kept by the configured {@link BoundaryContentStore}.
+ * <p>
+ * Contents are read and written as streams, so that they are never materialized as a whole in memory.
+ * They are stored in the configured {@link BoundaryContentFormat} and transparently decoded on read.
+ * <p>
+ * The reads hold a pooled connection for their whole transaction: their callers bound them with the
+ * {@link ContentReadLimiter} before calling them, so that waiting for a permit holds no connection.
+ */
+@Repository
+public class BoundaryContentRepository {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BoundaryContentRepository.class);
+
+    /**
+     * Boundaries are large, fetch them one row at a time when iterating over the table.
+     */
+    private static final int FETCH_SIZE = 1;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final BoundaryContentFormat storageFormat;
+
+    private final BoundaryContentStore contentStore;
+
+    public BoundaryContentRepository(DataSource dataSource,
+                                     @Value("${cgmes-boundary-server.storage.format:GZIP}") BoundaryContentFormat storageFormat,
+                                     BoundaryContentStore contentStore) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.storageFormat = storageFormat;
+        this.contentStore = contentStore;
+    }
+
+    @FunctionalInterface
+    public interface BoundaryContentHandler {
+        void handle(String id, String filename, LocalDateTime scenarioTime, Reader content) throws IOException;
+    }
+
+    /**
+     * Encode an uploaded content in the storage format into a temporary file, computing the SHA-256 hash
+     * and the length of the raw content on the fly.
+     */
+    public SpooledContent spool(InputStream content) throws IOException {
+        Path file = Files.createTempFile("boundary", null);
+        try {
+            MessageDigest digest = ContentHashing.newDigest();
+            long length;
+            try (OutputStream os = storageFormat.encode(Files.newOutputStream(file))) {
+                length = new DigestInputStream(content, digest).transferTo(os);
+            }
+            return new SpooledContent(file, ContentHashing.toHex(digest), storageFormat, length);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    /**
+     * Store a spooled content: its metadata row, then its bytes in the content store. Nothing is stored if a content
+     * of the same hash is already stored, or being stored by a concurrent import, whose insertion is waited for.
+     *
+     * @return false if a content of the same hash is already stored
+     */
+    @Transactional
+    public boolean saveContent(SpooledContent content) throws IOException {
+        int inserted = jdbcTemplate.update("INSERT INTO boundary_contents (hash, content_format, content_size) VALUES (?, ?, ?) ON CONFLICT DO NOTHING",
+            content.getHash(), content.getFormat().name(), content.getSize());
+        if (inserted == 0) {
+            return false;
+        }
+        contentStore.save(content);
+        return true;
+    }
+
+    /**
+     * @return the total size of the contents, as stored
+     */
+    public long getTotalStoredSize() {
+        Long size = jdbcTemplate.queryForObject("SELECT SUM(content_size) FROM boundary_contents", Long.class);
+        return size != null ? size : 0;
+    }
+
+    /**
+     * Delete the metadata row of a content, and its bytes from the content store once the deletion is committed,
+     * so that a rolled back deletion does not leave a content without bytes.
+     */
+    @Transactional
+    public void deleteContent(String hash) {
+        jdbcTemplate.update("DELETE FROM boundary_contents WHERE hash = ?", hash);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deleteStoredContent(hash);
+                }
+            });
+        } else {
+            deleteStoredContent(hash);
+        }
+    }
+
+    private void deleteStoredContent(String hash) {
+        try {
+            contentStore.delete(hash);
+        } catch (IOException | RuntimeException e) {
+            // the content is not referenced anymore, at worst it is stored again by a later import
+            LOGGER.warn("Could not delete the stored content {}", hash, e);
+        }
+    }
+
+    /**
+     * @return the size of a content, as stored
+     */
+    public Optional<Long> getContentSize(String hash) {
+        List<Long> sizes = jdbcTemplate.queryForList("SELECT content_size FROM boundary_contents WHERE hash = ?", Long.class, hash);
+        return sizes.stream().filter(Objects::nonNull).findFirst();
+    }
+
+    public Optional<BoundaryContentFormat> getContentFormat(String hash) {
+        List<String> formats = jdbcTemplate.queryForList("SELECT content_format FROM boundary_contents WHERE hash = ?", String.class, hash);
+        return formats.stream().findFirst().map(BoundaryContentFormat::of);
+    }
+
+    /**
+     * Copy a content to the output stream.
+     *
+     * @param decode false to copy the content as stored, in its storage format
+     * @return false if the content does not exist
+     * @throws IllegalStateException if the content exists but its bytes are missing from the content store
+     */
+    @Transactional(readOnly = true)
+    public boolean copyContent(String hash, OutputStream os, boolean decode) {
+        Optional<BoundaryContentFormat> format = getContentFormat(hash);
+        if (format.isEmpty()) {
+            return false;
+        }
+        try {
+            requireStored(hash, decode
+                ? contentStore.read(hash, stored -> format.get().decode(stored).transferTo(os)).isPresent()
+                : contentStore.copy(hash, os));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return true;
+    }
+
+    /**
+     * Copy a byte range of a content to the output stream.
+     * Only the range is read from the content store, unless the content is decoded from a compressed storage format,
+     * in which case the bytes before the range are decoded and skipped.
+     *
+     * @param decode false for a range of the content as stored, in its storage format
+     * @return false if the content does not exist
+     * @throws IllegalStateException if the content exists but its bytes are missing from the content store
+     */
+    @Transactional(readOnly = true)
+    public boolean copyContentRange(String hash, OutputStream os, boolean decode, long offset, long length) {
+        Optional<BoundaryContentFormat> format = getContentFormat(hash);
+        if (format.isEmpty()) {
+            return false;
+        }
+        try {
+            if (!decode || format.get() == BoundaryContentFormat.PLAIN) {
+                requireStored(hash, contentStore.copyRange(hash, offset, length, os));
+            } else {
+                requireStored(hash, contentStore.read(hash, stored -> {
+                    InputStream decoded = format.get().decode(stored);
+                    decoded.skipNBytes(offset);
+                    return new BoundedInputStream(decoded, length).transferTo(os);
+                }).isPresent());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return true;
+    }
+
+    /**
+     * @return the decoded content, empty if it does not exist
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> readContent(String hash) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        return copyContent(hash, os, true) ? Optional.of(os.toString(StandardCharsets.UTF_8)) : Optional.empty();
+    }
+
+    /**
+     * Hand the decoded content to the reader as a stream.
+     *
+     * @return the value returned by the reader, empty if the content does not exist or if the reader returns null
+     * @throws IllegalStateException if the content exists but its bytes are missing from the content store
+     */
+    @Transactional(readOnly = true)
+    public <T> Optional<T> readDecodedContent(String hash, BoundaryContentStore.StoredContentReader<T> reader) {
+        Optional<BoundaryContentFormat> format = getContentFormat(hash);
+        if (format.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            Optional<T> result = contentStore.read(hash, stored -> reader.read(format.get().decode(stored)));
+            requireStored(hash, result.isPresent());
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * A content having a metadata row but no stored bytes is lost, it is not answered as an empty content.
+     */
+    private static void requireStored(String hash, boolean stored) {
+        if (!stored) {
+            throw new IllegalStateException("No stored bytes for the content " + hash);
+        }
+    }
+
+    /**
+     * Iterate over the boundaries selected by the filter, handing the decoded content of each one to the handler as a stream.
+     * Contents stored in the boundary_contents table are read by the same query, the others by one read per boundary.
+     * The content handed is null for a boundary without content.
+     *
+     * @throws IllegalStateException if the stored bytes of a content are missing
+     */
+    @Transactional(readOnly = true)
+    public void forEachBoundary(BoundaryFilter filter, BoundaryContentHandler handler) {
+        boolean joinContent = contentStore.isInContentsTable();
+        List<Object> args = new ArrayList<>();
+        String sql = "SELECT b.id, b.filename, b.scenario_time, c.hash, c.content_format" + (joinContent ? ", c.content" : "")
+            + " FROM boundaries b LEFT JOIN boundary_contents c ON c.hash = b.content_hash"
+            + filter.toSql(args);
+        jdbcTemplate.query(sql, rs -> {
+            String id = rs.getString("id");
+            String filename = rs.getString("filename");
+            LocalDateTime scenarioTime = rs.getObject("scenario_time", LocalDateTime.class);
+            String hash = rs.getString("hash");
+            String contentFormat = rs.getString("content_format");
+            try {
+                if (hash == null) {
+                    // boundary without content
+                    handler.handle(id, filename, scenarioTime, null);
+                } else if (joinContent) {
+                    try (InputStream stored = rs.getBinaryStream("content")) {
+                        requireStored(hash, stored != null);
+                        handler.handle(id, filename, scenarioTime, decode(contentFormat, stored));
+                    }
+                } else {
+                    requireStored(hash, contentStore.read(hash, stored -> {
+                        handler.handle(id, filename, scenarioTime, decode(contentFormat, stored));
+                        return true;
+                    }).isPresent());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, args.toArray());
+    }
+
+    private static Reader decode(String contentFormat, InputStream stored) throws IOException {
+        return new InputStreamReader(BoundaryContentFormat.of(contentFormat).decode(stored), StandardCharsets.UTF_8);
+    }
+}
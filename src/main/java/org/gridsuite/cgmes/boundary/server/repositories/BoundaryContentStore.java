@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.repositories;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Optional;
+
+/**
+ * Storage of the bytes of the boundary contents, as encoded in their storage format, keyed by content hash.
+ * <p>
+ * The metadata of the contents (format, size) stay in the boundary_contents table, managed by the
+ * {@link BoundaryContentRepository}. The store is selected with cgmes-boundary-server.storage.type.
+ */
+public interface BoundaryContentStore {
+
+    String TYPE_PROPERTY = "cgmes-boundary-server.storage.type";
+
+    @FunctionalInterface
+    interface StoredContentReader<T> {
+        T read(InputStream stored) throws IOException;
+    }
+
+    /**
+     * Store the encoded bytes of a spooled content, replacing the ones already stored under its hash if any.
+     * The metadata row of the content is inserted beforehand.
+     */
+    void save(SpooledContent content) throws IOException;
+
+    /**
+     * Hand the stored bytes of a content to the reader, as a stream only valid during the call.
+     *
+     * @return the result of the reader, empty if there are no stored bytes for this hash
+     */
+    <T> Optional<T> read(String hash, StoredContentReader<T> reader) throws IOException;
+
+    /**
+     * Copy the stored bytes of a content to the output stream.
+     *
+     * @return false if there are no stored bytes for this hash
+     */
+    default boolean copy(String hash, OutputStream os) throws IOException {
+        return read(hash, stored -> stored.transferTo(os)).isPresent();
+    }
+
+    /**
+     * Hand a byte range of the stored bytes of a content to the reader, as a stream only valid during the call.
+     * The default implementation reads and skips the bytes before the range, stores able to read from an offset override it.
+     *
+     * @return the result of the reader, empty if there are no stored bytes for this hash
+     */
+    default <T> Optional<T> readRange(String hash, long offset, long length, StoredContentReader<T> reader) throws IOException {
+        return read(hash, stored -> {
+            stored.skipNBytes(offset);
+            return reader.read(new BoundedInputStream(stored, length));
+        });
+    }
+
+    /**
+     * Copy a byte range of the stored bytes of a content to the output stream.
+     *
+     * @return false if there are no stored bytes for this hash
+     */
+    default boolean copyRange(String hash, long offset, long length, OutputStream os) throws IOException {
+        return readRange(hash, offset, length, stored -> stored.transferTo(os)).isPresent();
+    }
+
+    /**
+     * @return true if the bytes are stored in the content column of the boundary_contents table, so that they are
+     * read along with their metadata by a join rather than by one read per content
+     */
+    default boolean isInContentsTable() {
+        return false;
+    }
+
+    /**
+     * Delete the stored bytes of a content, once its metadata row is deleted and committed.
+     */
+    void delete(String hash) throws IOException;
+}
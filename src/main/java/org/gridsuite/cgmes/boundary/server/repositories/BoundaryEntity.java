@@ -10,6 +10,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
@@ -20,22 +21,55 @@ import java.time.LocalDateTime;
 @Getter
 @Table(name = "boundaries")
 @Entity
-public class BoundaryEntity {
+public class BoundaryEntity implements Persistable<String> {
 
     @Id
     private String id;
 
     private String filename;
 
-    @Column(name = "boundary", columnDefinition = "CLOB")
-    private String boundary;
-
     private LocalDateTime scenarioTime;
 
-    public BoundaryEntity(String id, String filename, String boundary, LocalDateTime scenarioTime) {
+    private String profile;
+
+    /**
+     * Key of the boundary content in the boundary_contents table.
+     */
+    private String contentHash;
+
+    /**
+     * Length in bytes of the XML content, as uploaded. Unknown for the boundaries imported compressed before it was stored.
+     */
+    private Long contentLength;
+
+    /**
+     * Set for the boundaries known not to be in the database yet, so that they are inserted without the select of a merge.
+     */
+    @Transient
+    private boolean newBoundary;
+
+    public BoundaryEntity(String id, String filename, LocalDateTime scenarioTime, String profile, String contentHash, Long contentLength) {
         this.id = id;
         this.filename = filename;
-        this.boundary = boundary;
         this.scenarioTime = scenarioTime;
+        this.profile = profile;
+        this.contentHash = contentHash;
+        this.contentLength = contentLength;
+    }
+
+    public BoundaryEntity markNew() {
+        this.newBoundary = true;
+        return this;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newBoundary;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.newBoundary = false;
     }
 }
@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.repositories;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Selection of a page of boundaries, ordered by scenario time then id.
+ * <p>
+ * Pages are selected by keyset: the next page is the one after the scenario time and id of the last boundary
+ * of the previous page, so that any page is read from the (scenario_time, id) index without skipping rows.
+ * Boundaries without scenario time are ordered after all the others in increasing order, as in the index.
+ *
+ * @param profile           EQ or TP, null for any profile
+ * @param filenamePattern   filename pattern where '*' matches any sequence of characters and '?' any single one, null for any filename
+ * @param from              minimum scenario time, inclusive, null for no minimum
+ * @param to                maximum scenario time, inclusive, null for no maximum
+ * @param afterScenarioTime scenario time of the last boundary of the previous page, null for the first page or if
+ *                          the last boundary of the previous page has no scenario time
+ * @param afterId           id of the last boundary of the previous page, null for the first page
+ * @param limit             maximum number of boundaries, null for no limit
+ * @param descending        true to order by decreasing scenario time
+ * @param ids               ids of the boundaries, null for any id
+ */
+public record BoundaryFilter(String profile, String filenamePattern, LocalDateTime from, LocalDateTime to,
+                             LocalDateTime afterScenarioTime, String afterId, Integer limit, boolean descending,
+                             List<String> ids) {
+
+    public static final BoundaryFilter ALL = new BoundaryFilter(null, null, null, null, null, null, null, false, null);
+
+    public BoundaryFilter(String profile, String filenamePattern, LocalDateTime from, LocalDateTime to,
+                          LocalDateTime afterScenarioTime, String afterId, Integer limit, boolean descending) {
+        this(profile, filenamePattern, from, to, afterScenarioTime, afterId, limit, descending, null);
+    }
+
+    /**
+     * @return the filter selecting the boundaries of the given ids, in the order of this filter
+     */
+    public BoundaryFilter withIds(List<String> ids) {
+        return new BoundaryFilter(null, null, null, null, null, null, null, descending, List.copyOf(ids));
+    }
+
+    public boolean isPaged() {
+        return limit != null;
+    }
+
+    /**
+     * @return the WHERE, ORDER BY and LIMIT clauses selecting the boundaries of the "b" table alias
+     */
+    String toSql(List<Object> args) {
+        List<String> conditions = new ArrayList<>();
+        if (profile != null) {
+            conditions.add("b.profile = ?");
+            args.add(profile);
+        }
+        if (filenamePattern != null) {
+            conditions.add("b.filename LIKE ? ESCAPE '\\'");
+            args.add(toLikePattern(filenamePattern));
+        }
+        if (from != null) {
+            conditions.add("b.scenario_time >= ?");
+            args.add(from);
+        }
+        if (to != null) {
+            conditions.add("b.scenario_time <= ?");
+            args.add(to);
+        }
+        if (ids != null) {
+            conditions.add(ids.isEmpty() ? "1 = 0" : "b.id IN (" + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")");
+            args.addAll(ids);
+        }
+        if (afterId != null) {
+            conditions.add(getAfterCondition(args));
+        }
+
+        StringBuilder sql = new StringBuilder();
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        // explicit nulls ordering, the default one differs between databases
+        sql.append(descending ? " ORDER BY b.scenario_time DESC NULLS FIRST, b.id DESC" : " ORDER BY b.scenario_time ASC NULLS LAST, b.id ASC");
+        if (limit != null) {
+            sql.append(" LIMIT ?");
+            args.add(limit);
+        }
+        return sql.toString();
+    }
+
+    /**
+     * @return the keyset condition selecting the boundaries after the last one of the previous page, boundaries
+     * without scenario time being after all the others in increasing order
+     */
+    private String getAfterCondition(List<Object> args) {
+        String comparison = descending ? "<" : ">";
+        if (afterScenarioTime == null) {
+            args.add(afterId);
+            return descending
+                ? "((b.scenario_time IS NULL AND b.id < ?) OR b.scenario_time IS NOT NULL)"
+                : "(b.scenario_time IS NULL AND b.id > ?)";
+        }
+        args.add(afterScenarioTime);
+        args.add(afterScenarioTime);
+        args.add(afterId);
+        return "(b.scenario_time " + comparison + " ? OR (b.scenario_time = ? AND b.id " + comparison + " ?)"
+            + (descending ? ")" : " OR b.scenario_time IS NULL)");
+    }
+
+    private static String toLikePattern(String pattern) {
+        StringBuilder like = new StringBuilder();
+        for (char c : pattern.toCharArray()) {
+            switch (c) {
+                case '*' -> like.append('%');
+                case '?' -> like.append('_');
+                case '%', '_', '\\' -> like.append('\\').append(c);
+                default -> like.append(c);
+            }
+        }
+        return like.toString();
+    }
+}
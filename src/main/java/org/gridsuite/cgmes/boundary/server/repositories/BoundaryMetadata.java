@@ -0,0 +1,33 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.repositories;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of {@link BoundaryEntity} on its metadata columns, never selecting the boundary content.
+ */
+public interface BoundaryMetadata {
+
+    String getId();
+
+    String getFilename();
+
+    LocalDateTime getScenarioTime();
+
+    String getProfile();
+
+    /**
+     * @return the SHA-256 hash of the boundary content, in hexadecimal
+     */
+    String getContentHash();
+
+    /**
+     * @return the length in bytes of the XML content, null if unknown
+     */
+    Long getContentLength();
+}
@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.repositories;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+
+import java.util.UUID;
+
+/**
+ * Boundary point of a boundary file: a ConnectivityNode (EQ_BD) or a TopologicalNode (TP_BD),
+ * with the line containing it and its nominal voltage.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Table(name = "boundary_nodes")
+@Entity
+public class BoundaryNodeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    private String boundaryId;
+
+    private String nodeId;
+
+    /**
+     * ConnectivityNode or TopologicalNode.
+     */
+    private String nodeType;
+
+    private String name;
+
+    private String lineId;
+
+    private String lineName;
+
+    private String topologicalNodeId;
+
+    private String baseVoltageId;
+
+    private Double nominalVoltage;
+
+    private String fromEndIsoCode;
+
+    private String fromEndName;
+
+    private String fromEndNameTso;
+
+    private String toEndIsoCode;
+
+    private String toEndName;
+
+    private String toEndNameTso;
+
+    public void setNominalVoltage(Double nominalVoltage) {
+        this.nominalVoltage = nominalVoltage;
+    }
+}
@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Index of the boundary points of the imported boundaries.
+ */
+@Repository
+public interface BoundaryNodeRepository extends JpaRepository<BoundaryNodeEntity, UUID> {
+
+    List<BoundaryNodeEntity> findByBoundaryIdOrderByNodeId(String boundaryId);
+
+    @Query("SELECT n FROM BoundaryNodeEntity n WHERE n.boundaryId = :boundaryId"
+        + " AND (UPPER(n.fromEndNameTso) = UPPER(:tso) OR UPPER(n.toEndNameTso) = UPPER(:tso)) ORDER BY n.nodeId")
+    List<BoundaryNodeEntity> findByBoundaryIdAndTso(@Param("boundaryId") String boundaryId, @Param("tso") String tso);
+
+    boolean existsByBoundaryId(String boundaryId);
+
+    @Modifying
+    @Query("DELETE FROM BoundaryNodeEntity n WHERE n.boundaryId = :boundaryId")
+    void deleteByBoundaryId(@Param("boundaryId") String boundaryId);
+}
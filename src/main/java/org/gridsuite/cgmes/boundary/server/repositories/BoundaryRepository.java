@@ -7,11 +7,33 @@
 package org.gridsuite.cgmes.boundary.server.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * @author Franck Lecuyer <franck.lecuyer at rte-france.com
  */
 @Repository
-public interface BoundaryRepository extends JpaRepository<BoundaryEntity, String> {
+public interface BoundaryRepository extends JpaRepository<BoundaryEntity, String>, BoundaryRepositoryCustom {
+
+    Optional<BoundaryMetadata> findTopByProfileOrderByScenarioTimeDesc(String profile);
+
+    Optional<BoundaryMetadata> findTopByProfileAndScenarioTimeLessThanEqualOrderByScenarioTimeDesc(String profile, LocalDateTime scenarioTime);
+
+    List<BoundaryMetadata> findAllProjectedBy();
+
+    Optional<BoundaryMetadata> findProjectedById(String id);
+
+    Optional<BoundaryEntity> findFirstByContentHash(String contentHash);
+
+    boolean existsByContentHash(String contentHash);
+
+    @Query("SELECT b.id FROM BoundaryEntity b WHERE b.id IN :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
 }
@@ -0,0 +1,20 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.repositories;
+
+import java.util.List;
+
+/**
+ * Boundary queries built from a {@link BoundaryFilter}.
+ */
+public interface BoundaryRepositoryCustom {
+
+    /**
+     * @return the boundaries selected by the filter, as detached entities
+     */
+    List<BoundaryEntity> findAll(BoundaryFilter filter);
+}
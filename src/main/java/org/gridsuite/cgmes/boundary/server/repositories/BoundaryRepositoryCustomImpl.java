@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL implementation of the filtered boundary queries, whose conditions depend on the filter.
+ */
+class BoundaryRepositoryCustomImpl implements BoundaryRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    BoundaryRepositoryCustomImpl(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public List<BoundaryEntity> findAll(BoundaryFilter filter) {
+        List<Object> args = new ArrayList<>();
+        String sql = "SELECT b.id, b.filename, b.scenario_time, b.profile, b.content_hash, b.content_length FROM boundaries b" + filter.toSql(args);
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new BoundaryEntity(rs.getString("id"), rs.getString("filename"),
+            rs.getObject("scenario_time", LocalDateTime.class), rs.getString("profile"), rs.getString("content_hash"),
+            rs.getObject("content_length", Long.class)), args.toArray());
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Validation statuses of the boundaries, one row per boundary, deleted with it.
+ * Errors are stored one per line.
+ */
+@Repository
+public class BoundaryValidationRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BoundaryValidationRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Reset the validation status of boundaries, before they are validated again.
+     */
+    @Transactional
+    public void reset(Collection<String> boundaryIds, BoundaryValidationStatus status) {
+        List<Object[]> ids = new ArrayList<>();
+        new LinkedHashSet<>(boundaryIds).forEach(id -> ids.add(new Object[] {id}));
+        jdbcTemplate.batchUpdate("DELETE FROM boundary_validations WHERE boundary_id = ?", ids);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = ids.stream().map(id -> new Object[] {id[0], status.name(), now}).toList();
+        jdbcTemplate.batchUpdate("INSERT INTO boundary_validations (boundary_id, status, updated) VALUES (?, ?, ?)", rows);
+    }
+
+    /**
+     * Update the validation status of a boundary, nothing is done if the boundary has been deleted meanwhile.
+     * The update is committed in a transaction of its own, also when called once an import is committed.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void update(String boundaryId, BoundaryValidationStatus status, List<String> errors) {
+        jdbcTemplate.update("UPDATE boundary_validations SET status = ?, errors = ?, updated = ? WHERE boundary_id = ?",
+            status.name(), errors.isEmpty() ? null : String.join("\n", errors), LocalDateTime.now(), boundaryId);
+    }
+
+    public Optional<BoundaryValidationResult> find(String boundaryId) {
+        List<BoundaryValidationResult> results = jdbcTemplate.query("SELECT boundary_id, status, errors, updated FROM boundary_validations WHERE boundary_id = ?",
+            (rs, rowNum) -> {
+                String errors = rs.getString("errors");
+                return new BoundaryValidationResult(rs.getString("boundary_id"), BoundaryValidationStatus.valueOf(rs.getString("status")),
+                    errors != null ? List.of(errors.split("\n")) : List.of(), rs.getObject("updated", LocalDateTime.class));
+            }, boundaryId);
+        return results.stream().findFirst();
+    }
+}
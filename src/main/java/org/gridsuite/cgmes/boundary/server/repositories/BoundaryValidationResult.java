@@ -0,0 +1,16 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Last validation status of a boundary, with the errors found if it is invalid.
+ */
+public record BoundaryValidationResult(String boundaryId, BoundaryValidationStatus status, List<String> errors, LocalDateTime updated) {
+}
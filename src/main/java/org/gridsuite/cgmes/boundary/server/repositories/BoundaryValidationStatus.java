@@ -0,0 +1,21 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.repositories;
+
+/**
+ * Status of the background validation of an imported boundary.
+ */
+public enum BoundaryValidationStatus {
+    PENDING,
+    RUNNING,
+    VALID,
+    INVALID,
+    /**
+     * The validation could not be done, the content could not be read for instance.
+     */
+    FAILED
+}
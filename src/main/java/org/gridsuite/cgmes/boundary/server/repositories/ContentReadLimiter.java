@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.repositories;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bound on the number of boundary contents read from the database at the same time.
+ * <p>
+ * A content read holds a pooled connection for as long as the content is streamed, so without a bound a burst
+ * of requests, cheap to accept on virtual threads, would exhaust the connection pool and starve the other queries.
+ * Readers over the bound wait for a permit, and are rejected with a 503 status if none is released in time.
+ * A permit is acquired before the read transaction is started, not to hold a connection while waiting for it.
+ */
+@Component
+public class ContentReadLimiter {
+
+    private final Semaphore permits;
+
+    private final int maxConcurrentReads;
+
+    private final Duration waitTimeout;
+
+    public ContentReadLimiter(@Value("${cgmes-boundary-server.storage.max-concurrent-reads:8}") int maxConcurrentReads,
+                              @Value("${cgmes-boundary-server.storage.read-wait-timeout:30s}") Duration waitTimeout) {
+        if (maxConcurrentReads <= 0) {
+            throw new IllegalArgumentException("The maximum number of concurrent content reads must be positive");
+        }
+        this.permits = new Semaphore(maxConcurrentReads, true);
+        this.maxConcurrentReads = maxConcurrentReads;
+        this.waitTimeout = waitTimeout;
+    }
+
+    public <T> T read(Supplier<T> reader) {
+        try {
+            if (!permits.tryAcquire(waitTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many concurrent boundary content reads");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Interrupted while waiting to read a boundary content");
+        }
+        try {
+            return reader.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public void read(Runnable reader) {
+        read(() -> {
+            reader.run();
+            return null;
+        });
+    }
+
+    /**
+     * @return the number of content reads in progress
+     */
+    public int getActiveReads() {
+        return maxConcurrentReads - permits.availablePermits();
+    }
+
+    public int getMaxConcurrentReads() {
+        return maxConcurrentReads;
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.repositories;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+
+/**
+ * Contents stored in the content column of the boundary_contents table, next to their metadata. This is the default store.
+ */
+@Component
+@ConditionalOnProperty(name = BoundaryContentStore.TYPE_PROPERTY, havingValue = "database", matchIfMissing = true)
+public class DatabaseBoundaryContentStore implements BoundaryContentStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DatabaseBoundaryContentStore(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void save(SpooledContent content) throws IOException {
+        long size = content.getSize();
+        try (InputStream is = content.openEncoded()) {
+            jdbcTemplate.update("UPDATE boundary_contents SET content = ? WHERE hash = ?", ps -> {
+                ps.setBinaryStream(1, is, size);
+                ps.setString(2, content.getHash());
+            });
+        }
+    }
+
+    @Override
+    public <T> Optional<T> read(String hash, StoredContentReader<T> reader) {
+        return jdbcTemplate.query("SELECT content FROM boundary_contents WHERE hash = ?", rs -> {
+            if (!rs.next()) {
+                return Optional.empty();
+            }
+            try (InputStream content = rs.getBinaryStream("content")) {
+                return content != null ? Optional.ofNullable(reader.read(content)) : Optional.empty();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, hash);
+    }
+
+    @Override
+    public boolean isInContentsTable() {
+        return true;
+    }
+
+    @Override
+    public void delete(String hash) {
+        // deleted along with the metadata row
+    }
+}
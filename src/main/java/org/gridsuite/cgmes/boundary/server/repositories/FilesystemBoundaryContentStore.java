@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.repositories;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Contents stored as files of a local or mounted directory, two levels deep by hash prefix. Byte ranges are read
+ * from their offset with a {@link FileChannel}, without reading the bytes before them. The response stream not being
+ * a channel, {@link FileChannel#transferTo} copies the bytes through a heap buffer: the copy is not zero-copy.
+ */
+@Component
+@ConditionalOnProperty(name = BoundaryContentStore.TYPE_PROPERTY, havingValue = "filesystem")
+public class FilesystemBoundaryContentStore implements BoundaryContentStore {
+
+    private static final Pattern HASH_PATTERN = Pattern.compile("^[0-9a-f]{64}$");
+
+    private final Path root;
+
+    public FilesystemBoundaryContentStore(@Value("${cgmes-boundary-server.storage.filesystem.root}") Path root) throws IOException {
+        this.root = Files.createDirectories(root);
+    }
+
+    Path getPath(String hash) {
+        if (!HASH_PATTERN.matcher(hash).matches()) {
+            throw new IllegalArgumentException("Invalid content hash: " + hash);
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    @Override
+    public void save(SpooledContent content) throws IOException {
+        Path path = getPath(content.getHash());
+        Files.createDirectories(path.getParent());
+        // written next to its final place then moved, so that a content is never read partially written
+        Path tmp = Files.createTempFile(path.getParent(), content.getHash(), ".tmp");
+        try {
+            Files.copy(content.getFile(), tmp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    @Override
+    public <T> Optional<T> read(String hash, StoredContentReader<T> reader) throws IOException {
+        try (InputStream is = Files.newInputStream(getPath(hash))) {
+            return Optional.ofNullable(reader.read(is));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public <T> Optional<T> readRange(String hash, long offset, long length, StoredContentReader<T> reader) throws IOException {
+        try (FileChannel channel = FileChannel.open(getPath(hash), StandardOpenOption.READ)) {
+            channel.position(offset);
+            return Optional.ofNullable(reader.read(new BoundedInputStream(Channels.newInputStream(channel), length)));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean copy(String hash, OutputStream os) throws IOException {
+        return copyRange(hash, 0, Long.MAX_VALUE, os);
+    }
+
+    @Override
+    public boolean copyRange(String hash, long offset, long length, OutputStream os) throws IOException {
+        try (FileChannel channel = FileChannel.open(getPath(hash), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(os);
+            long end = Math.min(channel.size(), offset + Math.min(length, Long.MAX_VALUE - offset));
+            long position = offset;
+            while (position < end) {
+                position += channel.transferTo(position, end - position, target);
+            }
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void delete(String hash) throws IOException {
+        Files.deleteIfExists(getPath(hash));
+    }
+}
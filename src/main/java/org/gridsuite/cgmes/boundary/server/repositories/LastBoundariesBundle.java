@@ -0,0 +1,15 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.repositories;
+
+/**
+ * The JSON array of the last EQ and TP boundaries, serialized once per pair of last boundaries, and its gzip encoding.
+ *
+ * @param eTag entity tag of the pair of last boundaries
+ */
+public record LastBoundariesBundle(String eTag, byte[] content, byte[] gzipContent) {
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Persisted last boundaries bundle, so that it is serialized once for all the instances of the server and survives restarts.
+ * Only the bundle of the current pair of last boundaries is kept.
+ */
+@Repository
+public class LastBoundariesBundleRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LastBoundariesBundleRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public Optional<LastBoundariesBundle> find(String eTag) {
+        List<LastBoundariesBundle> bundles = jdbcTemplate.query("SELECT etag, content, gzip_content FROM last_boundaries_bundle WHERE etag = ?",
+            (rs, rowNum) -> new LastBoundariesBundle(rs.getString("etag"), rs.getBytes("content"), rs.getBytes("gzip_content")), eTag);
+        return bundles.stream().findFirst();
+    }
+
+    /**
+     * Store the bundle in a transaction of its own, committed even when called once an import is committed, replacing
+     * the bundles of the previous last boundaries. The same bundle stored meanwhile by another instance is kept.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void save(LastBoundariesBundle bundle) {
+        jdbcTemplate.update("DELETE FROM last_boundaries_bundle WHERE etag <> ?", bundle.eTag());
+        jdbcTemplate.update("INSERT INTO last_boundaries_bundle (etag, content, gzip_content) VALUES (?, ?, ?) ON CONFLICT DO NOTHING",
+            bundle.eTag(), bundle.content(), bundle.gzipContent());
+    }
+}
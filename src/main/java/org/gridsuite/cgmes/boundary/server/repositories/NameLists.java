@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.repositories;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Normalization of the TSO and business process lists: JSON arrays of names, trimmed, without duplicates and sorted
+ * case-insensitively.
+ */
+public final class NameLists {
+
+    private static final String EMPTY_LIST = "[]";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private NameLists() {
+    }
+
+    /**
+     * Normalize an imported list.
+     *
+     * @throws IllegalArgumentException if the list is not a JSON array of names
+     */
+    public static String normalize(String list) {
+        return normalize(list, true);
+    }
+
+    /**
+     * Normalize a stored list, imported before the lists were checked: elements that are not names are dropped, and a
+     * list that is not a JSON array is replaced by an empty list.
+     */
+    public static String normalizeStored(String list) {
+        return normalize(list, false);
+    }
+
+    private static String normalize(String list, boolean strict) {
+        JsonNode array;
+        try {
+            array = list != null ? OBJECT_MAPPER.readTree(list) : null;
+        } catch (JsonProcessingException e) {
+            if (strict) {
+                throw new IllegalArgumentException("Malformed JSON list: " + e.getOriginalMessage());
+            }
+            array = null;
+        }
+        if (array == null || !array.isArray()) {
+            if (strict) {
+                throw new IllegalArgumentException("A JSON array of strings is expected");
+            }
+            return EMPTY_LIST;
+        }
+        Set<String> names = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (JsonNode element : array) {
+            if (element.isTextual() && !element.asText().isBlank()) {
+                names.add(element.asText().trim());
+            } else if (strict) {
+                throw new IllegalArgumentException("Invalid list element: " + element);
+            }
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(names);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
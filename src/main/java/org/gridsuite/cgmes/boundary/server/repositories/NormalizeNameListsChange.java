@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.repositories;
+
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.DatabaseException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Migration normalizing the TSO and business process lists imported before they were normalized at import, the same
+ * way, see {@link NameLists#normalizeStored}: elements that are not names are dropped, and a list that is not a JSON
+ * array is replaced by an empty list.
+ */
+public class NormalizeNameListsChange implements CustomTaskChange {
+
+    /**
+     * Tables of the lists, with the column of the list.
+     */
+    private static final Map<String, String> LIST_TABLES = Map.of("tsos", "tsos", "business_processes", "business_processes");
+
+    private int normalizedCount;
+
+    @Override
+    public void execute(Database database) throws CustomChangeException {
+        JdbcConnection connection = (JdbcConnection) database.getConnection();
+        try {
+            for (Map.Entry<String, String> table : LIST_TABLES.entrySet()) {
+                Map<String, String> normalizedLists = new LinkedHashMap<>();
+                try (PreparedStatement select = connection.prepareStatement("SELECT name, " + table.getValue() + " FROM " + table.getKey());
+                     ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) {
+                        String name = rs.getString(1);
+                        String list = rs.getString(2);
+                        String normalized = NameLists.normalizeStored(list);
+                        if (!normalized.equals(list)) {
+                            normalizedLists.put(name, normalized);
+                        }
+                    }
+                }
+                try (PreparedStatement update = connection.prepareStatement("UPDATE " + table.getKey() + " SET " + table.getValue() + " = ? WHERE name = ?")) {
+                    for (Map.Entry<String, String> list : normalizedLists.entrySet()) {
+                        update.setString(1, list.getValue());
+                        update.setString(2, list.getKey());
+                        update.executeUpdate();
+                    }
+                }
+                normalizedCount += normalizedLists.size();
+            }
+        } catch (DatabaseException | SQLException e) {
+            throw new CustomChangeException(e);
+        }
+    }
+
+    @Override
+    public String getConfirmationMessage() {
+        return normalizedCount + " TSO and business process lists normalized";
+    }
+
+    @Override
+    public void setUp() {
+        // nothing to set up
+    }
+
+    @Override
+    public void setFileOpener(ResourceAccessor resourceAccessor) {
+        // no file read
+    }
+
+    @Override
+    public ValidationErrors validate(Database database) {
+        return new ValidationErrors();
+    }
+}
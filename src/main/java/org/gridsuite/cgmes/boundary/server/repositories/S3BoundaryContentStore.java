@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.repositories;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Optional;
+
+/**
+ * Contents stored as objects of an S3-compatible bucket, keyed by hash under a prefix. An endpoint can be
+ * configured to use another S3-compatible object store than AWS, a local MinIO for instance. Credentials
+ * are taken from the default AWS provider chain.
+ */
+@Component
+@ConditionalOnProperty(name = BoundaryContentStore.TYPE_PROPERTY, havingValue = "s3")
+public class S3BoundaryContentStore implements BoundaryContentStore {
+
+    private final S3Client s3Client;
+
+    private final String bucket;
+
+    private final String prefix;
+
+    @Autowired
+    public S3BoundaryContentStore(@Value("${cgmes-boundary-server.storage.s3.bucket}") String bucket,
+                                  @Value("${cgmes-boundary-server.storage.s3.prefix:boundaries/}") String prefix,
+                                  @Value("${cgmes-boundary-server.storage.s3.region:us-east-1}") String region,
+                                  @Value("${cgmes-boundary-server.storage.s3.endpoint:#{null}}") URI endpoint) {
+        this(buildClient(region, endpoint), bucket, prefix);
+    }
+
+    public S3BoundaryContentStore(S3Client s3Client, String bucket, String prefix) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.prefix = prefix;
+    }
+
+    private static S3Client buildClient(String region, URI endpoint) {
+        var builder = S3Client.builder()
+            .region(Region.of(region))
+            // S3-compatible stores seldom support virtual-hosted style bucket addressing
+            .forcePathStyle(endpoint != null);
+        if (endpoint != null) {
+            builder.endpointOverride(endpoint);
+        }
+        return builder.build();
+    }
+
+    private String getKey(String hash) {
+        return prefix + hash;
+    }
+
+    @Override
+    public void save(SpooledContent content) {
+        s3Client.putObject(request -> request.bucket(bucket).key(getKey(content.getHash())), RequestBody.fromFile(content.getFile()));
+    }
+
+    @Override
+    public <T> Optional<T> read(String hash, StoredContentReader<T> reader) throws IOException {
+        try (ResponseInputStream<GetObjectResponse> is = s3Client.getObject(request -> request.bucket(bucket).key(getKey(hash)))) {
+            return Optional.ofNullable(reader.read(is));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public <T> Optional<T> readRange(String hash, long offset, long length, StoredContentReader<T> reader) throws IOException {
+        if (length <= 0) {
+            return read(hash, stored -> reader.read(InputStream.nullInputStream()));
+        }
+        String range = "bytes=" + offset + "-" + (offset + length - 1);
+        try (ResponseInputStream<GetObjectResponse> is = s3Client.getObject(request -> request.bucket(bucket).key(getKey(hash)).range(range))) {
+            return Optional.ofNullable(reader.read(is));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void delete(String hash) {
+        s3Client.deleteObject(request -> request.bucket(bucket).key(getKey(hash)));
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.cgmes.boundary.server.repositories;
+
+import lombok.Getter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * An uploaded content, encoded in its storage format in a temporary file, along with the SHA-256 hash
+ * of the raw content. Closing it deletes the temporary file.
+ */
+@Getter
+public class SpooledContent implements Closeable {
+
+    private final Path file;
+
+    private final String hash;
+
+    private final BoundaryContentFormat format;
+
+    /**
+     * Length of the raw content.
+     */
+    private final long length;
+
+    SpooledContent(Path file, String hash, BoundaryContentFormat format, long length) {
+        this.file = file;
+        this.hash = hash;
+        this.format = format;
+        this.length = length;
+    }
+
+    /**
+     * @return the size of the encoded content
+     */
+    public long getSize() throws IOException {
+        return Files.size(file);
+    }
+
+    public InputStream openEncoded() throws IOException {
+        return Files.newInputStream(file);
+    }
+
+    public InputStream openDecoded() throws IOException {
+        return format.decode(openEncoded());
+    }
+
+    @Override
+    public void close() throws IOException {
+        Files.deleteIfExists(file);
+    }
+}
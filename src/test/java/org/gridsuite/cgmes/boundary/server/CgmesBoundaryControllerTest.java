@@ -6,32 +6,106 @@
  */
 package org.gridsuite.cgmes.boundary.server;
 
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
 import org.apache.commons.io.IOUtils;
+import org.gridsuite.cgmes.boundary.server.dto.BoundaryContent;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryContentRepository;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryFilter;
 import org.gridsuite.cgmes.boundary.server.repositories.BoundaryRepository;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryValidationRepository;
+import org.gridsuite.cgmes.boundary.server.repositories.BoundaryValidationStatus;
+import org.gridsuite.cgmes.boundary.server.repositories.ContentReadLimiter;
+import org.gridsuite.cgmes.boundary.server.repositories.FilesystemBoundaryContentStore;
+import org.gridsuite.cgmes.boundary.server.repositories.NameLists;
+import org.gridsuite.cgmes.boundary.server.repositories.S3BoundaryContentStore;
+import org.gridsuite.cgmes.boundary.server.repositories.SpooledContent;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.json.JSONArray;
 import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMultipartHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.ResourceUtils;
+import org.springframework.web.server.ResponseStatusException;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.StringWriter;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
@@ -50,11 +124,47 @@ class CgmesBoundaryControllerTest {
     @Autowired
     private CgmesBoundaryService cgmesBoundaryService;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CgmesBoundaryCache boundaryCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ContentReadLimiter contentReadLimiter;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private BoundaryValidationRepository boundaryValidationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private BoundaryContentRepository boundaryContentRepository;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
     }
 
+    @AfterEach
+    void tearDown() throws Exception {
+        cgmesBoundaryService.awaitLastBoundariesBundleBuilds();
+        boundaryRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM boundary_contents");
+        jdbcTemplate.update("DELETE FROM last_boundaries_bundle");
+        boundaryCache.invalidateAll();
+    }
+
     @Test
     void test() throws Exception {
         MockMultipartFile file1 = new MockMultipartFile("file", "20191106T0930Z__ENTSOE_EQBD_001.xml",
@@ -109,6 +219,10 @@ class CgmesBoundaryControllerTest {
                 .andReturn();
         assertEquals("urn:uuid:f1582c44-d9e2-4ea0-afdc-dba189ab4358", result.getResponse().getContentAsString());
 
+        // boundary profiles are derived at import
+        assertEquals("EQ", boundaryRepository.findById("urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71").orElseThrow().getProfile());
+        assertEquals("TP", boundaryRepository.findById("urn:uuid:f1582c44-d9e2-4ea0-afdc-dba189ab4358").orElseThrow().getProfile());
+
         // get list of boundary infos
         mvc.perform(get("/v1/boundaries/infos")
             .contentType(APPLICATION_JSON))
@@ -117,8 +231,12 @@ class CgmesBoundaryControllerTest {
             .andExpect(content().json("[{\"id\":\"urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71\",\"filename\":\"20191106T0930Z__ENTSOE_EQBD_001.xml\",\"scenarioTime\":\"2020-06-29T00:00:00\"},{\"id\":\"urn:uuid:f1582c44-d9e2-4ea0-afdc-dba189ab4358\",\"filename\":\"20191106T0930Z__ENTSOE_TPBD_001.xml\",\"scenarioTime\":\"2020-06-29T00:00:00\"}]"));
 
         // get list of boundary set
-        mvc.perform(get("/v1/boundaries")
+        result = mvc.perform(get("/v1/boundaries")
                 .contentType(APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andDo(MvcResult::getAsyncResult)
+                .andReturn();
+        mvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith(APPLICATION_JSON))
                 .andExpect(jsonPath("[0].id").value("urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71"))
@@ -158,6 +276,21 @@ class CgmesBoundaryControllerTest {
         String xmlExpected = writer.toString();
         assertEquals(xmlExpected, boundaryXml);
 
+        // get the XML content of one existing boundary set
+        result = mvc.perform(get("/v1/boundaries/urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71/content"))
+            .andExpect(request().asyncStarted())
+            .andDo(MvcResult::getAsyncResult)
+            .andReturn();
+        result = mvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_XML))
+            .andReturn();
+        assertEquals(xmlExpected, result.getResponse().getContentAsString(StandardCharsets.UTF_8));
+
+        // get the XML content of one non existing boundary set
+        mvc.perform(get("/v1/boundaries/urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f70/content"))
+            .andExpect(status().isNotFound());
+
         // get one non existing boundary set
         assertTrue(assertThrows(Exception.class, () -> mvc.perform(get("/v1/boundaries/urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f70")
                 .contentType(APPLICATION_JSON)))
@@ -207,6 +340,998 @@ class CgmesBoundaryControllerTest {
         assertFalse(Boolean.parseBoolean(result.getResponse().getContentAsString()));
     }
 
+    @Test
+    void testBoundariesInfosDoNotLoadContent() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "20191106T0930Z__ENTSOE_EQBD_001.xml",
+            MediaType.TEXT_XML_VALUE, new FileInputStream(ResourceUtils.getFile("classpath:20191106T0930Z__ENTSOE_EQBD_001.xml")));
+        mvc.perform(MockMvcRequestBuilders.multipart("/v1/boundaries").file(file))
+            .andExpect(status().isOk());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mvc.perform(get("/v1/boundaries/infos")
+            .contentType(APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("[0].id").value("urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71"))
+            .andExpect(jsonPath("[0].filename").value("20191106T0930Z__ENTSOE_EQBD_001.xml"))
+            .andExpect(jsonPath("[0].boundary").doesNotExist());
+
+        // infos are read through a metadata projection: no boundary entity, hence no boundary content, is loaded
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getEntityFetchCount());
+    }
+
+    private double cacheGets(String cache, String result) {
+        return meterRegistry.get("cache.gets").tag("cache", cache).tag("result", result).functionCounter().count();
+    }
+
+    @Test
+    void testMetrics() throws Exception {
+        long parses = meterRegistry.get(CgmesBoundaryMetrics.IMPORT_TIMER).tag("phase", "parse").timer().count();
+        long persists = meterRegistry.get(CgmesBoundaryMetrics.IMPORT_TIMER).tag("phase", "persist").timer().count();
+        long gets = meterRegistry.get(CgmesBoundaryMetrics.GET_TIMER).tag("boundary", "last").timer().count();
+        long contents = meterRegistry.get(CgmesBoundaryMetrics.CONTENT_SIZE).summary().count();
+
+        importBoundary("20191106T0930Z__ENTSOE_EQBD_001.xml");
+        importBoundary("20191106T0930Z__ENTSOE_TPBD_001.xml");
+        assertEquals(parses + 2, meterRegistry.get(CgmesBoundaryMetrics.IMPORT_TIMER).tag("phase", "parse").timer().count());
+        assertEquals(persists + 2, meterRegistry.get(CgmesBoundaryMetrics.IMPORT_TIMER).tag("phase", "persist").timer().count());
+        assertEquals(2, meterRegistry.get(CgmesBoundaryMetrics.BOUNDARY_COUNT).gauge().value());
+        assertTrue(meterRegistry.get(CgmesBoundaryMetrics.STORED_SIZE).gauge().value() > 0);
+
+        // the last boundaries are read once, to build their bundle when the second one is imported
+        assertEquals(contents + 2, meterRegistry.get(CgmesBoundaryMetrics.CONTENT_SIZE).summary().count());
+        mvc.perform(get("/v1/boundaries/last"))
+            .andExpect(status().isOk());
+        assertEquals(gets + 1, meterRegistry.get(CgmesBoundaryMetrics.GET_TIMER).tag("boundary", "last").timer().count());
+        assertEquals(contents + 2, meterRegistry.get(CgmesBoundaryMetrics.CONTENT_SIZE).summary().count());
+
+        // the sizes are in bytes, the boundary having non ASCII characters
+        double total = meterRegistry.get(CgmesBoundaryMetrics.CONTENT_SIZE).summary().totalAmount();
+        mvc.perform(get("/v1/boundaries/urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71"))
+            .andExpect(status().isOk());
+        assertEquals(total + Files.size(ResourceUtils.getFile("classpath:20191106T0930Z__ENTSOE_EQBD_001.xml").toPath()),
+            meterRegistry.get(CgmesBoundaryMetrics.CONTENT_SIZE).summary().totalAmount());
+        assertEquals(6, CgmesBoundaryMetrics.utf8Length("a\u00e9\u20ac"));
+    }
+
+    @Test
+    void testConcurrentContentReads() throws Exception {
+        importBoundary("20191106T0930Z__ENTSOE_EQBD_001.xml");
+        String contentHash = boundaryRepository.findById("urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71").orElseThrow().getContentHash();
+
+        // a burst of reads, bypassing the cache, never holds more connections than allowed
+        AtomicInteger maxActiveReads = new AtomicInteger();
+        OutputStream os = new OutputStream() {
+            @Override
+            public void write(int b) {
+                maxActiveReads.accumulateAndGet(contentReadLimiter.getActiveReads(), Math::max);
+            }
+        };
+        int readers = contentReadLimiter.getMaxConcurrentReads() * 4;
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        try {
+            List<Future<Boolean>> reads = new ArrayList<>();
+            for (int i = 0; i < readers; i++) {
+                reads.add(executor.submit(() -> cgmesBoundaryService.writeContent(contentHash, os, false)));
+            }
+            for (Future<Boolean> read : reads) {
+                assertTrue(read.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(maxActiveReads.get() > 0);
+        assertTrue(maxActiveReads.get() <= contentReadLimiter.getMaxConcurrentReads());
+        assertEquals(0, contentReadLimiter.getActiveReads());
+        assertEquals(0, meterRegistry.get(CgmesBoundaryMetrics.ACTIVE_READS).gauge().value());
+    }
+
+    @Test
+    void testContentReadsOverTheBound() throws Exception {
+        importBoundary("20191106T0930Z__ENTSOE_EQBD_001.xml");
+        String contentHash = boundaryRepository.findById("urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71").orElseThrow().getContentHash();
+
+        int permits = contentReadLimiter.getMaxConcurrentReads();
+        CountDownLatch taken = new CountDownLatch(permits);
+        CountDownLatch released = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(permits + 1);
+        try {
+            for (int i = 0; i < permits; i++) {
+                executor.submit(() -> contentReadLimiter.read(() -> {
+                    taken.countDown();
+                    try {
+                        released.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+            }
+            assertTrue(taken.await(10, TimeUnit.SECONDS));
+
+            // a read over the bound waits for a permit without holding a connection, then is rejected
+            Future<Boolean> read = executor.submit(() -> cgmesBoundaryService.writeContent(contentHash, OutputStream.nullOutputStream(), false));
+            Thread.sleep(500);
+            assertEquals(0, dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections());
+            ExecutionException e = assertThrows(ExecutionException.class, read::get);
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, assertInstanceOf(ResponseStatusException.class, e.getCause()).getStatusCode());
+        } finally {
+            released.countDown();
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(0, contentReadLimiter.getActiveReads());
+    }
+
+    @Test
+    void testCache() throws Exception {
+        MockMultipartFile boundaryFile = new MockMultipartFile("file", "20191106T0930Z__ENTSOE_EQBD_001.xml",
+            MediaType.TEXT_XML_VALUE, new FileInputStream(ResourceUtils.getFile("classpath:20191106T0930Z__ENTSOE_EQBD_001.xml")));
+        mvc.perform(MockMvcRequestBuilders.multipart("/v1/boundaries").file(boundaryFile))
+            .andExpect(status().isOk());
+
+        // first read loads the boundary, second one is served by the cache
+        double hits = cacheGets(CgmesBoundaryCache.BOUNDARIES_CACHE, "hit");
+        double misses = cacheGets(CgmesBoundaryCache.BOUNDARIES_CACHE, "miss");
+        for (int i = 0; i < 2; i++) {
+            mvc.perform(get("/v1/boundaries/urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("filename").value("20191106T0930Z__ENTSOE_EQBD_001.xml"));
+        }
+        assertEquals(misses + 1, cacheGets(CgmesBoundaryCache.BOUNDARIES_CACHE, "miss"));
+        assertEquals(hits + 1, cacheGets(CgmesBoundaryCache.BOUNDARIES_CACHE, "hit"));
+
+        // a boundary changed or deleted through another instance is not served from the cache of this one
+        String eTag = mvc.perform(get("/v1/boundaries/urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        jdbcTemplate.update("UPDATE boundaries SET filename = ? WHERE id = ?", "renamed_EQBD.xml", "urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71");
+        mvc.perform(get("/v1/boundaries/urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+            .andExpect(jsonPath("filename").value("renamed_EQBD.xml"));
+        jdbcTemplate.update("UPDATE boundaries SET filename = ? WHERE id = ?", "20191106T0930Z__ENTSOE_EQBD_001.xml", "urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71");
+        mvc.perform(get("/v1/boundaries/urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag));
+        importBoundary("20191106T0930Z__ENTSOE_TPBD_001.xml");
+        mvc.perform(get("/v1/boundaries/urn:uuid:f1582c44-d9e2-4ea0-afdc-dba189ab4358"))
+            .andExpect(status().isOk());
+        jdbcTemplate.update("DELETE FROM boundaries WHERE id = ?", "urn:uuid:f1582c44-d9e2-4ea0-afdc-dba189ab4358");
+        assertTrue(assertThrows(Exception.class, () -> mvc.perform(get("/v1/boundaries/urn:uuid:f1582c44-d9e2-4ea0-afdc-dba189ab4358")))
+            .getMessage().matches("(.*)Boundary not found for id(.*)"));
+
+        // weighed by bytes, not characters
+        assertEquals(3, CgmesBoundaryCache.heapSize("abé"));
+        assertEquals(6, CgmesBoundaryCache.heapSize("ab€"));
+        assertEquals(0, CgmesBoundaryCache.heapSize(null));
+
+        // deleting the boundary evicts it
+        mvc.perform(delete("/v1/boundaries/urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71"))
+            .andExpect(status().isOk());
+        assertTrue(assertThrows(Exception.class, () -> mvc.perform(get("/v1/boundaries/urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71")))
+            .getMessage().matches("(.*)Boundary not found for id(.*)"));
+
+        // importing a list refreshes it
+        mvc.perform(MockMvcRequestBuilders.multipart("/v1/tsos").file(new MockMultipartFile("file", "tsos.json",
+                MediaType.APPLICATION_JSON_VALUE, "[\"RTEFRANCE\",\"ELIA\"]".getBytes(StandardCharsets.UTF_8))))
+            .andExpect(status().isOk());
+        mvc.perform(get("/v1/tsos"))
+            .andExpect(status().isOk())
+            .andExpect(content().json("[\"ELIA\",\"RTEFRANCE\"]", true));
+        mvc.perform(MockMvcRequestBuilders.multipart("/v1/tsos").file(new MockMultipartFile("file", "tsos.json",
+                MediaType.APPLICATION_JSON_VALUE, "[\"REE\"]".getBytes(StandardCharsets.UTF_8))))
+            .andExpect(status().isOk());
+        mvc.perform(get("/v1/tsos"))
+            .andExpect(status().isOk())
+            .andExpect(content().json("[\"REE\"]", true));
+    }
+
+    @Test
+    void testWarmUp() throws Exception {
+        importBoundary("20191106T0930Z__ENTSOE_EQBD_001.xml");
+        importBoundary("20191106T0930Z__ENTSOE_TPBD_001.xml");
+        boundaryCache.invalidateAll();
+
+        new BoundaryWarmUp(cgmesBoundaryService, 2).warmUp();
+        assertNotNull(boundaryCache.getLastBoundariesBundle());
+
+        // the last boundaries are served by the cache
+        double hits = cacheGets(CgmesBoundaryCache.BOUNDARIES_CACHE, "hit");
+        double misses = cacheGets(CgmesBoundaryCache.BOUNDARIES_CACHE, "miss");
+        mvc.perform(get("/v1/boundaries/last").param("profile", "EQ"))
+            .andExpect(status().isOk());
+        assertEquals(misses, cacheGets(CgmesBoundaryCache.BOUNDARIES_CACHE, "miss"));
+        assertEquals(hits + 1, cacheGets(CgmesBoundaryCache.BOUNDARIES_CACHE, "hit"));
+
+        // nothing to load on an empty database
+        boundaryRepository.deleteAll();
+        boundaryCache.invalidateAll();
+        new BoundaryWarmUp(cgmesBoundaryService, 2).warmUp();
+        assertNull(boundaryCache.getLastBoundariesBundle());
+    }
+
+    @Test
+    void testLastBoundariesBundle() throws Exception {
+        importBoundary("20191106T0930Z__ENTSOE_EQBD_001.xml");
+        importBoundary("20191106T0930Z__ENTSOE_TPBD_001.xml");
+        // built and stored when the pair was imported, in a transaction of its own
+        String storedETag = jdbcTemplate.queryForObject("SELECT etag FROM last_boundaries_bundle", String.class);
+
+        MvcResult result = mvc.perform(get("/v1/boundaries/last"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("[0].id").value("urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71"))
+            .andExpect(jsonPath("[1].id").value("urn:uuid:f1582c44-d9e2-4ea0-afdc-dba189ab4358"))
+            .andReturn();
+        byte[] json = result.getResponse().getContentAsByteArray();
+        assertEquals(json.length, result.getResponse().getContentLength());
+        String eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+        assertEquals("\"" + storedETag + "\"", eTag);
+
+        result = mvc.perform(get("/v1/boundaries/last").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andExpect(header().string(HttpHeaders.ETAG, eTag.replaceAll("\"$", "-gzip\"")))
+            .andReturn();
+        try (InputStream is = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            assertArrayEquals(json, is.readAllBytes());
+        }
+
+        // another instance, or a restart, serves the stored bundle
+        boundaryCache.invalidateAll();
+        long contents = meterRegistry.get(CgmesBoundaryMetrics.CONTENT_SIZE).summary().count();
+        mvc.perform(get("/v1/boundaries/last"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(content().bytes(json));
+        assertEquals(contents, meterRegistry.get(CgmesBoundaryMetrics.CONTENT_SIZE).summary().count());
+
+        // a new last boundary replaces the bundle
+        importBoundary("20201106T0930Z__ENTSOE_EQBD_001.xml");
+        mvc.perform(get("/v1/boundaries/last"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+            .andExpect(jsonPath("[0].id").value("urn:uuid:58c98e13-d37f-4f0b-82c9-066deda4cd20"));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM last_boundaries_bundle", Integer.class));
+    }
+
+    @Test
+    void testExistenceChecks() throws Exception {
+        importBoundary("20191106T0930Z__ENTSOE_EQBD_001.xml");
+
+        mvc.perform(post("/v1/boundaries/exists").contentType(APPLICATION_JSON)
+                .content("[\"urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71\",\"unknown\",\"urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71\"]"))
+            .andExpect(status().isOk())
+            .andExpect(content().json("{\"urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71\":true,\"unknown\":false}", true));
+        mvc.perform(post("/v1/boundaries/exists").contentType(APPLICATION_JSON)
+                .content("[\"urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71\",null]"))
+            .andExpect(status().isBadRequest());
+
+        String eTag = mvc.perform(get("/v1/boundaries/urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        // the size of the XML content, not of the compressed one stored
+        long size = Files.size(ResourceUtils.getFile("classpath:20191106T0930Z__ENTSOE_EQBD_001.xml").toPath());
+        MvcResult result = mvc.perform(head("/v1/boundaries/urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(header().string(CgmesBoundaryController.BOUNDARY_SIZE_HEADER, String.valueOf(size)))
+            .andReturn();
+        assertEquals(0, result.getResponse().getContentAsByteArray().length);
+        mvc.perform(head("/v1/boundaries/urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71").header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified());
+        mvc.perform(head("/v1/boundaries/unknown"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testFilesystemContentStore(@TempDir Path root) throws Exception {
+        FilesystemBoundaryContentStore store = new FilesystemBoundaryContentStore(root);
+        byte[] boundary = Files.readAllBytes(ResourceUtils.getFile("classpath:20191106T0930Z__ENTSOE_EQBD_001.xml").toPath());
+        try (SpooledContent content = boundaryContentRepository.spool(new ByteArrayInputStream(boundary))) {
+            store.save(content);
+            // saving the same content again replaces it
+            store.save(content);
+
+            ByteArrayOutputStream copied = new ByteArrayOutputStream();
+            assertTrue(store.copy(content.getHash(), copied));
+            assertArrayEquals(Files.readAllBytes(content.getFile()), copied.toByteArray());
+            assertArrayEquals(boundary, store.read(content.getHash(), stored -> content.getFormat().decode(stored).readAllBytes()).orElseThrow());
+
+            store.delete(content.getHash());
+            assertFalse(store.copy(content.getHash(), OutputStream.nullOutputStream()));
+            assertTrue(store.read(content.getHash(), InputStream::readAllBytes).isEmpty());
+        }
+        assertThrows(IllegalArgumentException.class, () -> store.delete("../boundary"));
+    }
+
+    @Test
+    void testS3ContentStore() throws Exception {
+        // in-memory bucket behind a mocked client
+        Map<String, byte[]> objects = new HashMap<>();
+        List<String> ranges = new ArrayList<>();
+        S3Client s3Client = mock(S3Client.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
+        doAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            RequestBody body = invocation.getArgument(1);
+            try (InputStream is = body.contentStreamProvider().newStream()) {
+                objects.put(request.bucket() + "/" + request.key(), is.readAllBytes());
+            }
+            return PutObjectResponse.builder().build();
+        }).when(s3Client).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        doAnswer(invocation -> {
+            GetObjectRequest request = invocation.getArgument(0);
+            byte[] object = objects.get(request.bucket() + "/" + request.key());
+            if (object == null) {
+                throw NoSuchKeyException.builder().message("The specified key does not exist.").build();
+            }
+            int from = 0;
+            int to = object.length;
+            if (request.range() != null) {
+                ranges.add(request.range());
+                String[] bounds = request.range().substring("bytes=".length()).split("-");
+                from = Integer.parseInt(bounds[0]);
+                to = Math.min(Integer.parseInt(bounds[1]) + 1, object.length);
+            }
+            return new ResponseInputStream<>(GetObjectResponse.builder().build(),
+                AbortableInputStream.create(new ByteArrayInputStream(object, from, to - from)));
+        }).when(s3Client).getObject(any(GetObjectRequest.class));
+        doAnswer(invocation -> {
+            DeleteObjectRequest request = invocation.getArgument(0);
+            objects.remove(request.bucket() + "/" + request.key());
+            return DeleteObjectResponse.builder().build();
+        }).when(s3Client).deleteObject(any(DeleteObjectRequest.class));
+
+        S3BoundaryContentStore store = new S3BoundaryContentStore(s3Client, "bucket", "boundaries/");
+        byte[] boundary = Files.readAllBytes(ResourceUtils.getFile("classpath:20191106T0930Z__ENTSOE_EQBD_001.xml").toPath());
+        try (SpooledContent content = boundaryContentRepository.spool(new ByteArrayInputStream(boundary))) {
+            byte[] storedBytes = Files.readAllBytes(content.getFile());
+            store.save(content);
+            // saving the same content again replaces it
+            store.save(content);
+            assertEquals(Set.of("bucket/boundaries/" + content.getHash()), objects.keySet());
+
+            ByteArrayOutputStream copied = new ByteArrayOutputStream();
+            assertTrue(store.copy(content.getHash(), copied));
+            assertArrayEquals(storedBytes, copied.toByteArray());
+            assertArrayEquals(boundary, store.read(content.getHash(), stored -> content.getFormat().decode(stored).readAllBytes()).orElseThrow());
+
+            // ranges are read from the store, not skipped
+            ByteArrayOutputStream range = new ByteArrayOutputStream();
+            assertTrue(store.copyRange(content.getHash(), 10, 20, range));
+            assertArrayEquals(Arrays.copyOfRange(storedBytes, 10, 30), range.toByteArray());
+            assertEquals(List.of("bytes=10-29"), ranges);
+            assertArrayEquals(new byte[0], store.readRange(content.getHash(), 10, 0, InputStream::readAllBytes).orElseThrow());
+
+            store.delete(content.getHash());
+            assertTrue(objects.isEmpty());
+            assertFalse(store.copy(content.getHash(), OutputStream.nullOutputStream()));
+            assertFalse(store.copyRange(content.getHash(), 10, 20, OutputStream.nullOutputStream()));
+            assertTrue(store.read(content.getHash(), InputStream::readAllBytes).isEmpty());
+            assertTrue(store.readRange(content.getHash(), 10, 0, InputStream::readAllBytes).isEmpty());
+        }
+    }
+
+    @Test
+    void testConcurrentLoadsCoalesced() throws Exception {
+        int readers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        double gets = cacheGets(CgmesBoundaryCache.BOUNDARIES_CACHE, "hit") + cacheGets(CgmesBoundaryCache.BOUNDARIES_CACHE, "miss");
+        CgmesBoundaryCache.BoundaryKey key = new CgmesBoundaryCache.BoundaryKey("id", "filename.xml", LocalDateTime.of(2020, 11, 29, 0, 0), "hash");
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        try {
+            List<Future<BoundaryContent>> reads = new ArrayList<>();
+            for (int i = 0; i < readers; i++) {
+                reads.add(executor.submit(() -> boundaryCache.getBoundary(key, k -> {
+                    loads.incrementAndGet();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return new BoundaryContent(k.id(), k.filename(), k.scenarioTime(), "content");
+                })));
+            }
+            // every reader got the in-flight load before it completes
+            while (cacheGets(CgmesBoundaryCache.BOUNDARIES_CACHE, "hit") + cacheGets(CgmesBoundaryCache.BOUNDARIES_CACHE, "miss") < gets + readers) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+            for (Future<BoundaryContent> read : reads) {
+                assertEquals("content", read.get().getBoundary());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, loads.get());
+
+        // a failed load is not cached
+        CgmesBoundaryCache.BoundaryKey failing = new CgmesBoundaryCache.BoundaryKey("failing", "filename.xml", null, "hash");
+        assertThrows(IllegalStateException.class, () -> boundaryCache.getBoundary(failing, k -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals("content", boundaryCache.getBoundary(failing, k -> new BoundaryContent(k.id(), k.filename(), null, "content")).getBoundary());
+    }
+
+    private void importBoundary(String filename) throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", filename,
+            MediaType.TEXT_XML_VALUE, new FileInputStream(ResourceUtils.getFile("classpath:" + filename)));
+        mvc.perform(MockMvcRequestBuilders.multipart("/v1/boundaries").file(file))
+            .andExpect(status().isOk());
+        // the bundle of the last boundaries is built in the background
+        cgmesBoundaryService.awaitLastBoundariesBundleBuilds();
+    }
+
+    @Test
+    void testBoundaryValidation() throws Exception {
+        // the EQ boundary the TP boundary depends on is not imported yet
+        importBoundary("20181106T0930Z__ENTSOE_TPBD_001.xml");
+        String validation = awaitValidation("urn:uuid:0a6e5c1e-2f43-4d8b-9a43-1f0c5b9a7e02");
+        assertTrue(validation.contains("\"status\":\"INVALID\""));
+        assertTrue(validation.contains("Dependency urn:uuid:0a6e5c1e-2f43-4d8b-9a43-1f0c5b9a7e01 not found"));
+
+        importBoundary("20181106T0930Z__ENTSOE_EQBD_001.xml");
+        assertTrue(awaitValidation("urn:uuid:0a6e5c1e-2f43-4d8b-9a43-1f0c5b9a7e01").contains("\"status\":\"VALID\""));
+        mvc.perform(post("/v1/boundaries/urn:uuid:0a6e5c1e-2f43-4d8b-9a43-1f0c5b9a7e02/validation"))
+            .andExpect(status().isAccepted());
+        assertTrue(awaitValidation("urn:uuid:0a6e5c1e-2f43-4d8b-9a43-1f0c5b9a7e02").contains("\"status\":\"VALID\""));
+
+        // same objects defined twice, in a TP file named as an EQ file
+        String content = new String(Files.readAllBytes(ResourceUtils.getFile("classpath:20181106T0930Z__ENTSOE_EQBD_001.xml").toPath()), StandardCharsets.UTF_8)
+            .replace("urn:uuid:0a6e5c1e-2f43-4d8b-9a43-1f0c5b9a7e01", "urn:uuid:0a6e5c1e-2f43-4d8b-9a43-1f0c5b9a7e03")
+            .replace("EquipmentBoundary", "TopologyBoundary")
+            .replace("<cim:Line rdf:ID=\"_line-fr-be\">", "<cim:BaseVoltage rdf:ID=\"_bv-400\"/><cim:Line rdf:ID=\"_line-fr-es\"/><cim:Line rdf:ID=\"_line-fr-be\">");
+        mvc.perform(MockMvcRequestBuilders.multipart("/v1/boundaries")
+                .file(new MockMultipartFile("file", "20181106T0930Z__ENTSOE_EQBD_002.xml", MediaType.TEXT_XML_VALUE, content.getBytes(StandardCharsets.UTF_8))))
+            .andExpect(status().isOk());
+        validation = awaitValidation("urn:uuid:0a6e5c1e-2f43-4d8b-9a43-1f0c5b9a7e03");
+        assertTrue(validation.contains("\"status\":\"INVALID\""));
+        assertTrue(validation.contains("Profile EQ of the file name does not match profile TP of the FullModel header"));
+        assertTrue(validation.contains("TP boundary not depending on an EQ boundary"));
+        assertTrue(validation.contains("Duplicate mRIDs: _bv-400, _line-fr-es"));
+
+        // a status updated once an import is committed, when the validation queue is full, is committed
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                boundaryValidationRepository.update("urn:uuid:0a6e5c1e-2f43-4d8b-9a43-1f0c5b9a7e03", BoundaryValidationStatus.FAILED, List.of("Validation queue full"));
+            }
+        }));
+        assertEquals(BoundaryValidationStatus.FAILED, boundaryValidationRepository.find("urn:uuid:0a6e5c1e-2f43-4d8b-9a43-1f0c5b9a7e03").orElseThrow().status());
+
+        mvc.perform(get("/v1/boundaries/unknown/validation"))
+            .andExpect(status().isNotFound());
+        mvc.perform(post("/v1/boundaries/unknown/validation"))
+            .andExpect(status().isNotFound());
+
+        // the validation status is deleted with the boundary
+        mvc.perform(delete("/v1/boundaries/urn:uuid:0a6e5c1e-2f43-4d8b-9a43-1f0c5b9a7e03"))
+            .andExpect(status().isOk());
+        mvc.perform(get("/v1/boundaries/urn:uuid:0a6e5c1e-2f43-4d8b-9a43-1f0c5b9a7e03/validation"))
+            .andExpect(status().isNotFound());
+    }
+
+    private String awaitValidation(String boundaryId) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (true) {
+            String validation = mvc.perform(get("/v1/boundaries/" + boundaryId + "/validation"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+            if (!validation.contains("PENDING") && !validation.contains("RUNNING") || System.nanoTime() > deadline) {
+                return validation;
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    void testConditionalRequests() throws Exception {
+        importBoundary("20191106T0930Z__ENTSOE_EQBD_001.xml");
+        importBoundary("20191106T0930Z__ENTSOE_TPBD_001.xml");
+
+        // the entity tag of the boundary content is the SHA-256 of the imported file
+        String contentHash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+            .digest(Files.readAllBytes(ResourceUtils.getFile("classpath:20191106T0930Z__ENTSOE_EQBD_001.xml").toPath())));
+        assertEquals(contentHash, boundaryRepository.findById("urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71").orElseThrow().getContentHash());
+        MvcResult result = mvc.perform(get("/v1/boundaries/urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71/content"))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + contentHash + "\""))
+            .andReturn();
+        mvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk());
+        mvc.perform(get("/v1/boundaries/urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71/content")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + contentHash + "\""))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+
+        // boundary JSON representation
+        String boundaryETag = mvc.perform(get("/v1/boundaries/urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mvc.perform(get("/v1/boundaries/urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71")
+                .header(HttpHeaders.IF_NONE_MATCH, boundaryETag))
+            .andExpect(status().isNotModified());
+
+        // aggregate entity tags of the boundary set and of the last boundaries
+        String infosETag = mvc.perform(get("/v1/boundaries/infos"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mvc.perform(get("/v1/boundaries/infos").header(HttpHeaders.IF_NONE_MATCH, infosETag))
+            .andExpect(status().isNotModified());
+        // other representations of the same boundary set have other entity tags
+        mvc.perform(get("/v1/boundaries").header(HttpHeaders.IF_NONE_MATCH, infosETag))
+            .andExpect(request().asyncStarted())
+            .andExpect(header().string(HttpHeaders.ETAG, not(infosETag)));
+        mvc.perform(get("/v1/boundaries/infos").param("limit", "1").header(HttpHeaders.IF_NONE_MATCH, infosETag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(infosETag)));
+        mvc.perform(get("/v1/boundaries/last").param("profile", "EQ").header(HttpHeaders.IF_NONE_MATCH, boundaryETag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(boundaryETag)));
+        String lastETag = mvc.perform(get("/v1/boundaries/last"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mvc.perform(get("/v1/boundaries/last").header(HttpHeaders.IF_NONE_MATCH, lastETag))
+            .andExpect(status().isNotModified());
+
+        // importing a new boundary changes the set
+        importBoundary("20201106T0930Z__ENTSOE_EQBD_001.xml");
+        mvc.perform(get("/v1/boundaries/infos").header(HttpHeaders.IF_NONE_MATCH, infosETag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(infosETag)));
+        mvc.perform(get("/v1/boundaries/last").header(HttpHeaders.IF_NONE_MATCH, lastETag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(lastETag)));
+    }
+
+    @Test
+    void testCompressedStorage() throws Exception {
+        importBoundary("20191106T0930Z__ENTSOE_EQBD_001.xml");
+        byte[] expected = Files.readAllBytes(ResourceUtils.getFile("classpath:20191106T0930Z__ENTSOE_EQBD_001.xml").toPath());
+        assertEquals("GZIP", jdbcTemplate.queryForObject("SELECT c.content_format FROM boundary_contents c JOIN boundaries b ON b.content_hash = c.hash WHERE b.id = ?",
+            String.class, "urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71"));
+
+        // compressed content is served as is to clients accepting gzip
+        MvcResult result = mvc.perform(get("/v1/boundaries/urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71/content")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+            .andExpect(request().asyncStarted())
+            .andDo(MvcResult::getAsyncResult)
+            .andReturn();
+        result = mvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andReturn();
+        try (InputStream is = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            assertArrayEquals(expected, is.readAllBytes());
+        }
+
+        // and decompressed for the others
+        result = mvc.perform(get("/v1/boundaries/urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71/content"))
+            .andExpect(request().asyncStarted())
+            .andDo(MvcResult::getAsyncResult)
+            .andReturn();
+        result = mvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andReturn();
+        assertArrayEquals(expected, result.getResponse().getContentAsByteArray());
+
+        // boundaries stored before compression was introduced are plain
+        jdbcTemplate.update("INSERT INTO boundary_contents (hash, content_format, content) VALUES (?, ?, ?)",
+            "plainContentHash", "PLAIN", "<rdf:RDF/>".getBytes(StandardCharsets.UTF_8));
+        jdbcTemplate.update("INSERT INTO boundaries (id, filename, scenario_time, profile, content_hash) VALUES (?, ?, ?, ?, ?)",
+            "plainBoundaryId", "plain_EQBD.xml", LocalDateTime.of(2020, 1, 1, 0, 0), "EQ", "plainContentHash");
+        mvc.perform(get("/v1/boundaries/plainBoundaryId"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("boundary").value("<rdf:RDF/>"));
+        result = mvc.perform(get("/v1/boundaries/plainBoundaryId/content")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+            .andExpect(request().asyncStarted())
+            .andDo(MvcResult::getAsyncResult)
+            .andReturn();
+        mvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andExpect(content().string("<rdf:RDF/>"));
+
+        // a content whose stored bytes are lost is not answered as an empty content
+        jdbcTemplate.update("UPDATE boundary_contents SET content = NULL WHERE hash = ?", "plainContentHash");
+        boundaryCache.invalidateAll();
+        assertThrows(IllegalStateException.class, () -> cgmesBoundaryService.writeContent("plainContentHash", OutputStream.nullOutputStream(), false));
+        assertThrows(Exception.class, () -> mvc.perform(get("/v1/boundaries/plainBoundaryId")));
+        BoundaryFilter plainBoundary = BoundaryFilter.ALL.withIds(List.of("plainBoundaryId"));
+        assertThrows(IllegalStateException.class, () -> boundaryContentRepository.forEachBoundary(plainBoundary, (id, filename, scenarioTime, content) -> { }));
+    }
+
+    private MvcResult getContentRange(String range, String... headers) throws Exception {
+        MockHttpServletRequestBuilder builder = get("/v1/boundaries/urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71/content").header(HttpHeaders.RANGE, range);
+        for (int i = 0; i < headers.length; i += 2) {
+            builder.header(headers[i], headers[i + 1]);
+        }
+        MvcResult result = mvc.perform(builder)
+            .andExpect(request().asyncStarted())
+            .andDo(MvcResult::getAsyncResult)
+            .andReturn();
+        return mvc.perform(asyncDispatch(result)).andReturn();
+    }
+
+    @Test
+    void testContentRanges() throws Exception {
+        importBoundary("20191106T0930Z__ENTSOE_EQBD_001.xml");
+        byte[] expected = Files.readAllBytes(ResourceUtils.getFile("classpath:20191106T0930Z__ENTSOE_EQBD_001.xml").toPath());
+        int length = expected.length;
+        assertEquals(length, boundaryRepository.findById("urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71").orElseThrow().getContentLength());
+
+        mvc.perform(head("/v1/boundaries/urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71/content"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+            .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, length))
+            .andExpect(content().string(""));
+
+        MvcResult result = getContentRange("bytes=10-19");
+        assertEquals(HttpStatus.PARTIAL_CONTENT.value(), result.getResponse().getStatus());
+        assertEquals("bytes 10-19/" + length, result.getResponse().getHeader(HttpHeaders.CONTENT_RANGE));
+        assertArrayEquals(Arrays.copyOfRange(expected, 10, 20), result.getResponse().getContentAsByteArray());
+
+        // resuming from an offset, and suffix range
+        result = getContentRange("bytes=100-");
+        assertArrayEquals(Arrays.copyOfRange(expected, 100, length), result.getResponse().getContentAsByteArray());
+        result = getContentRange("bytes=-5");
+        assertEquals("bytes " + (length - 5) + "-" + (length - 1) + "/" + length, result.getResponse().getHeader(HttpHeaders.CONTENT_RANGE));
+        assertArrayEquals(Arrays.copyOfRange(expected, length - 5, length), result.getResponse().getContentAsByteArray());
+
+        // a range of the compressed content as stored
+        result = getContentRange("bytes=0-1", HttpHeaders.ACCEPT_ENCODING, "gzip");
+        assertEquals(HttpStatus.PARTIAL_CONTENT.value(), result.getResponse().getStatus());
+        assertEquals("gzip", result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(new byte[] {(byte) 0x1f, (byte) 0x8b}, result.getResponse().getContentAsByteArray());
+
+        // the whole content if the validator does not match, or for several ranges
+        result = getContentRange("bytes=0-9", HttpHeaders.IF_RANGE, "\"other\"");
+        assertEquals(HttpStatus.OK.value(), result.getResponse().getStatus());
+        assertArrayEquals(expected, result.getResponse().getContentAsByteArray());
+        result = getContentRange("bytes=0-9,20-29");
+        assertEquals(HttpStatus.OK.value(), result.getResponse().getStatus());
+
+        mvc.perform(get("/v1/boundaries/urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71/content").header(HttpHeaders.RANGE, "bytes=" + length + "-"))
+            .andExpect(status().isRequestedRangeNotSatisfiable())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + length));
+    }
+
+    @Test
+    void testContentDeduplication() throws Exception {
+        importBoundary("20191106T0930Z__ENTSOE_EQBD_001.xml");
+
+        // uploading the same content under another name only updates the boundary metadata
+        MockMultipartFile copy = new MockMultipartFile("file", "copy_of_EQBD.xml",
+            MediaType.TEXT_XML_VALUE, new FileInputStream(ResourceUtils.getFile("classpath:20191106T0930Z__ENTSOE_EQBD_001.xml")));
+        mvc.perform(MockMvcRequestBuilders.multipart("/v1/boundaries").file(copy))
+            .andExpect(status().isOk())
+            .andExpect(content().string("urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71"));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM boundary_contents", Integer.class));
+        mvc.perform(get("/v1/boundaries/urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("filename").value("copy_of_EQBD.xml"))
+            .andExpect(jsonPath("scenarioTime").value("2020-06-29T00:00:00"));
+
+        importBoundary("20191106T0930Z__ENTSOE_TPBD_001.xml");
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM boundary_contents", Integer.class));
+
+        // contents are deleted with the last boundary referencing them
+        mvc.perform(delete("/v1/boundaries/urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71"))
+            .andExpect(status().isOk());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM boundary_contents", Integer.class));
+
+        // a content stored meanwhile, by a concurrent import for instance, is not stored again
+        try (InputStream is = new FileInputStream(ResourceUtils.getFile("classpath:20191106T0930Z__ENTSOE_TPBD_001.xml"));
+             SpooledContent content = boundaryContentRepository.spool(is)) {
+            assertFalse(boundaryContentRepository.saveContent(content));
+        }
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM boundary_contents", Integer.class));
+    }
+
+    private static byte[] zip(String... filenames) throws Exception {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        try (ZipOutputStream zos = new ZipOutputStream(os)) {
+            for (String filename : filenames) {
+                zos.putNextEntry(new ZipEntry("boundaries/" + filename));
+                zos.write(Files.readAllBytes(ResourceUtils.getFile("classpath:" + filename).toPath()));
+                zos.closeEntry();
+            }
+        }
+        return os.toByteArray();
+    }
+
+    @Test
+    void testBatchImport() throws Exception {
+        MockMultipartFile zip = new MockMultipartFile("files", "20191106T0930Z__ENTSOE_BD_001.zip", "application/zip",
+            zip("20191106T0930Z__ENTSOE_EQBD_001.xml", "20191106T0930Z__ENTSOE_TPBD_001.xml"));
+        MockMultipartFile xml = new MockMultipartFile("files", "20201106T0930Z__ENTSOE_EQBD_001.xml",
+            MediaType.TEXT_XML_VALUE, new FileInputStream(ResourceUtils.getFile("classpath:20201106T0930Z__ENTSOE_EQBD_001.xml")));
+        mvc.perform(MockMvcRequestBuilders.multipart("/v1/boundaries/batch").file(zip).file(xml))
+            .andExpect(status().isOk())
+            .andExpect(content().json("[\"urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71\",\"urn:uuid:f1582c44-d9e2-4ea0-afdc-dba189ab4358\",\"urn:uuid:58c98e13-d37f-4f0b-82c9-066deda4cd20\"]", true));
+        mvc.perform(get("/v1/boundaries/urn:uuid:f1582c44-d9e2-4ea0-afdc-dba189ab4358"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("filename").value("20191106T0930Z__ENTSOE_TPBD_001.xml"));
+        assertEquals(3, boundaryRepository.count());
+
+        // an invalid file rolls the whole batch back
+        MockMultipartFile tp = new MockMultipartFile("files", "20201106T0930Z__ENTSOE_TPBD_001.xml",
+            MediaType.TEXT_XML_VALUE, new FileInputStream(ResourceUtils.getFile("classpath:20201106T0930Z__ENTSOE_TPBD_001.xml")));
+        MockMultipartFile invalid = new MockMultipartFile("files", "invalid.xml", MediaType.TEXT_XML_VALUE, "not a boundary".getBytes(StandardCharsets.UTF_8));
+        assertThrows(Exception.class, () -> mvc.perform(MockMvcRequestBuilders.multipart("/v1/boundaries/batch").file(tp).file(invalid)));
+        assertFalse(boundaryRepository.existsById("urn:uuid:55257eed-ac1d-4b99-8828-3e1b47f5e0a1"));
+        assertEquals(3, boundaryRepository.count());
+
+        // the same boundary in a zip archive and as a file, with another content: the last one is imported
+        byte[] eq = Files.readAllBytes(ResourceUtils.getFile("classpath:20181106T0930Z__ENTSOE_EQBD_001.xml").toPath());
+        MockMultipartFile eqZip = new MockMultipartFile("files", "20181106T0930Z__ENTSOE_BD_001.zip", "application/zip",
+            zip("20181106T0930Z__ENTSOE_EQBD_001.xml"));
+        MockMultipartFile eqXml = new MockMultipartFile("files", "20181106T0930Z__ENTSOE_EQBD_002.xml",
+            MediaType.TEXT_XML_VALUE, (new String(eq, StandardCharsets.UTF_8) + "\n").getBytes(StandardCharsets.UTF_8));
+        int contents = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM boundary_contents", Integer.class);
+        mvc.perform(MockMvcRequestBuilders.multipart("/v1/boundaries/batch").file(eqZip).file(eqXml))
+            .andExpect(status().isOk())
+            .andExpect(content().json("[\"urn:uuid:0a6e5c1e-2f43-4d8b-9a43-1f0c5b9a7e01\",\"urn:uuid:0a6e5c1e-2f43-4d8b-9a43-1f0c5b9a7e01\"]", true));
+        mvc.perform(get("/v1/boundaries/urn:uuid:0a6e5c1e-2f43-4d8b-9a43-1f0c5b9a7e01"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("filename").value("20181106T0930Z__ENTSOE_EQBD_002.xml"));
+        assertEquals(4, boundaryRepository.count());
+        assertEquals(contents + 1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM boundary_contents", Integer.class));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM boundary_nodes WHERE boundary_id = ?", Integer.class,
+            "urn:uuid:0a6e5c1e-2f43-4d8b-9a43-1f0c5b9a7e01"));
+    }
+
+    @Test
+    void testBoundaryNodes() throws Exception {
+        importBoundary("20181106T0930Z__ENTSOE_EQBD_001.xml");
+        importBoundary("20181106T0930Z__ENTSOE_TPBD_001.xml");
+
+        mvc.perform(get("/v1/boundaries/urn:uuid:0a6e5c1e-2f43-4d8b-9a43-1f0c5b9a7e01/nodes"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].id").value("_cn-fr-be"))
+            .andExpect(jsonPath("$[0].type").value("ConnectivityNode"))
+            .andExpect(jsonPath("$[0].name").value("XAV_AV11"))
+            .andExpect(jsonPath("$[0].lineId").value("_line-fr-be"))
+            .andExpect(jsonPath("$[0].lineName").value("AVELGEM-AVELIN"))
+            .andExpect(jsonPath("$[0].fromEndIsoCode").value("BE"))
+            .andExpect(jsonPath("$[0].fromEndNameTso").value("Elia"))
+            .andExpect(jsonPath("$[0].toEndIsoCode").value("FR"))
+            .andExpect(jsonPath("$[0].toEndNameTso").value("RTE"))
+            .andExpect(jsonPath("$[1].id").value("_cn-fr-es"));
+
+        // base voltages of the TP boundary are defined in the EQ boundary
+        mvc.perform(get("/v1/boundaries/urn:uuid:0a6e5c1e-2f43-4d8b-9a43-1f0c5b9a7e02/nodes").queryParam("tso", "elia"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].id").value("_cn-fr-be"))
+            .andExpect(jsonPath("$[0].topologicalNodeId").value("_tn-fr-be"))
+            .andExpect(jsonPath("$[0].nominalVoltage").value(400.))
+            .andExpect(jsonPath("$[0].fromEndNameTso").value("Elia"))
+            .andExpect(jsonPath("$[1].id").value("_tn-fr-be"))
+            .andExpect(jsonPath("$[1].type").value("TopologicalNode"))
+            .andExpect(jsonPath("$[1].nominalVoltage").value(400.));
+        mvc.perform(get("/v1/boundaries/urn:uuid:0a6e5c1e-2f43-4d8b-9a43-1f0c5b9a7e02/nodes").queryParam("tso", "REE"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[1].id").value("_tn-fr-es"))
+            .andExpect(jsonPath("$[1].nominalVoltage").value(225.));
+
+        assertThrows(Exception.class, () -> mvc.perform(get("/v1/boundaries/unknown/nodes")));
+
+        // boundaries imported before the index are indexed when imported again, even unchanged
+        jdbcTemplate.update("DELETE FROM boundary_nodes WHERE boundary_id = ?", "urn:uuid:0a6e5c1e-2f43-4d8b-9a43-1f0c5b9a7e01");
+        jdbcTemplate.update("DELETE FROM boundary_base_voltages WHERE boundary_id = ?", "urn:uuid:0a6e5c1e-2f43-4d8b-9a43-1f0c5b9a7e01");
+        importBoundary("20181106T0930Z__ENTSOE_EQBD_001.xml");
+        mvc.perform(get("/v1/boundaries/urn:uuid:0a6e5c1e-2f43-4d8b-9a43-1f0c5b9a7e01/nodes"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].lineName").value("AVELGEM-AVELIN"));
+
+        // the index of a boundary is deleted with it
+        mvc.perform(delete("/v1/boundaries/urn:uuid:0a6e5c1e-2f43-4d8b-9a43-1f0c5b9a7e02"))
+            .andExpect(status().isOk());
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM boundary_nodes", Integer.class));
+    }
+
+    @Test
+    void testChanges() throws Exception {
+        long revision = new JSONObject(mvc.perform(get("/v1/boundaries/changes").queryParam("since", String.valueOf(Long.MAX_VALUE)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("added").isEmpty())
+            .andExpect(jsonPath("removed").isEmpty())
+            .andReturn().getResponse().getContentAsString()).getLong("revision");
+
+        importBoundary("20191106T0930Z__ENTSOE_EQBD_001.xml");
+        mvc.perform(get("/v1/boundaries/changes").queryParam("since", String.valueOf(revision)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("revision").value(revision + 1))
+            .andExpect(content().json("{\"added\":[\"urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71\"],\"removed\":[]}"));
+
+        importBoundary("20191106T0930Z__ENTSOE_TPBD_001.xml");
+        mvc.perform(delete("/v1/boundaries/urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71"))
+            .andExpect(status().isOk());
+        mvc.perform(get("/v1/boundaries/changes").queryParam("since", String.valueOf(revision)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("revision").value(revision + 3))
+            .andExpect(content().json("{\"added\":[\"urn:uuid:f1582c44-d9e2-4ea0-afdc-dba189ab4358\"],\"removed\":[\"urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71\"]}"));
+        mvc.perform(get("/v1/boundaries/changes").queryParam("since", String.valueOf(revision + 2)))
+            .andExpect(status().isOk())
+            .andExpect(content().json("{\"added\":[],\"removed\":[\"urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71\"]}"));
+        mvc.perform(get("/v1/boundaries/changes").queryParam("since", String.valueOf(revision + 3)))
+            .andExpect(status().isOk())
+            .andExpect(content().json("{\"added\":[],\"removed\":[]}"));
+    }
+
+    @Test
+    void testBoundariesPages() throws Exception {
+        importBoundary("20191106T0930Z__ENTSOE_EQBD_001.xml");
+        importBoundary("20191106T0930Z__ENTSOE_TPBD_001.xml");
+        importBoundary("20201106T0930Z__ENTSOE_EQBD_001.xml");
+        importBoundary("20201106T0930Z__ENTSOE_TPBD_001.xml");
+
+        // filters
+        mvc.perform(get("/v1/boundaries/infos").queryParam("profile", "EQ"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].id").value(contains("urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71", "urn:uuid:58c98e13-d37f-4f0b-82c9-066deda4cd20")))
+            .andExpect(header().doesNotExist(HttpHeaders.LINK));
+        mvc.perform(get("/v1/boundaries/infos").queryParam("filename", "2019*__ENTSOE_TPBD_???.xml"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].id").value(contains("urn:uuid:f1582c44-d9e2-4ea0-afdc-dba189ab4358")));
+        mvc.perform(get("/v1/boundaries/infos").queryParam("filename", "2019%"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isEmpty());
+        mvc.perform(get("/v1/boundaries/infos").queryParam("from", "2020-07-01T00:00:00").queryParam("to", "2020-11-29T00:00:00"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].id").value(contains("urn:uuid:58c98e13-d37f-4f0b-82c9-066deda4cd20")));
+
+        // keyset pages, following the Link headers
+        String link = mvc.perform(get("/v1/boundaries/infos").queryParam("order", "DESC").queryParam("limit", "3"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].id").value(contains("urn:uuid:55257eed-ac1d-4b99-8828-3e1b47f5e0a1",
+                "urn:uuid:58c98e13-d37f-4f0b-82c9-066deda4cd20", "urn:uuid:f1582c44-d9e2-4ea0-afdc-dba189ab4358")))
+            .andReturn().getResponse().getHeader(HttpHeaders.LINK);
+        assertNotNull(link);
+        String nextPage = link.substring(link.indexOf('<') + 1, link.indexOf('>'));
+        mvc.perform(get(nextPage))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].id").value(contains("urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71")))
+            .andExpect(header().doesNotExist(HttpHeaders.LINK));
+
+        MvcResult result = mvc.perform(get("/v1/boundaries").queryParam("profile", "TP").queryParam("limit", "1"))
+            .andExpect(request().asyncStarted())
+            .andExpect(header().exists(HttpHeaders.LINK))
+            .andDo(MvcResult::getAsyncResult)
+            .andReturn();
+        mvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("[0].id").value("urn:uuid:f1582c44-d9e2-4ea0-afdc-dba189ab4358"))
+            .andExpect(jsonPath("[0].boundary").exists());
+
+        // boundaries without scenario time are paged after the others in increasing order, before them in decreasing order
+        jdbcTemplate.update("INSERT INTO boundary_contents (hash, content_format, content) VALUES (?, ?, ?)",
+            "legacyContentHash", "PLAIN", "<rdf:RDF/>".getBytes(StandardCharsets.UTF_8));
+        for (String id : List.of("legacyBoundaryId1", "legacyBoundaryId2")) {
+            jdbcTemplate.update("INSERT INTO boundaries (id, filename, profile, content_hash) VALUES (?, ?, ?, ?)",
+                id, id + "_EQBD.xml", "EQ", "legacyContentHash");
+        }
+        assertEquals(List.of("urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71", "urn:uuid:f1582c44-d9e2-4ea0-afdc-dba189ab4358",
+            "urn:uuid:58c98e13-d37f-4f0b-82c9-066deda4cd20", "urn:uuid:55257eed-ac1d-4b99-8828-3e1b47f5e0a1",
+            "legacyBoundaryId1", "legacyBoundaryId2"), getAllPages("ASC", 2));
+        assertEquals(List.of("legacyBoundaryId2", "legacyBoundaryId1", "urn:uuid:55257eed-ac1d-4b99-8828-3e1b47f5e0a1",
+            "urn:uuid:58c98e13-d37f-4f0b-82c9-066deda4cd20", "urn:uuid:f1582c44-d9e2-4ea0-afdc-dba189ab4358",
+            "urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71"), getAllPages("DESC", 3));
+
+        mvc.perform(get("/v1/boundaries/infos").queryParam("limit", "0"))
+            .andExpect(status().isBadRequest());
+        mvc.perform(get("/v1/boundaries/infos").queryParam("after", "not a cursor"))
+            .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * @return the ids of the boundaries of all the pages of the boundaries infos list, following the Link headers
+     */
+    private List<String> getAllPages(String order, int limit) throws Exception {
+        List<String> ids = new ArrayList<>();
+        MockHttpServletRequestBuilder page = get("/v1/boundaries/infos").queryParam("order", order).queryParam("limit", String.valueOf(limit));
+        while (page != null) {
+            MvcResult result = mvc.perform(page)
+                .andExpect(status().isOk())
+                .andReturn();
+            JSONArray boundaries = new JSONArray(result.getResponse().getContentAsString());
+            for (int i = 0; i < boundaries.length(); i++) {
+                ids.add(boundaries.getJSONObject(i).getString("id"));
+            }
+            String link = result.getResponse().getHeader(HttpHeaders.LINK);
+            page = link != null ? get(link.substring(link.indexOf('<') + 1, link.indexOf('>'))) : null;
+        }
+        return ids;
+    }
+
+    @Test
+    void testLastBoundariesAt() throws Exception {
+        importBoundary("20191106T0930Z__ENTSOE_EQBD_001.xml");
+        importBoundary("20191106T0930Z__ENTSOE_TPBD_001.xml");
+        importBoundary("20201106T0930Z__ENTSOE_EQBD_001.xml");
+        importBoundary("20201106T0930Z__ENTSOE_TPBD_001.xml");
+
+        mvc.perform(get("/v1/boundaries/last").queryParam("at", "2020-07-01T00:00:00"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].id").value(contains("urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71", "urn:uuid:f1582c44-d9e2-4ea0-afdc-dba189ab4358")));
+        // the scenario time bound is inclusive
+        mvc.perform(get("/v1/boundaries/last").queryParam("at", "2020-11-29T00:00:00").queryParam("profile", "TP"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].id").value(contains("urn:uuid:f1582c44-d9e2-4ea0-afdc-dba189ab4358")));
+        mvc.perform(get("/v1/boundaries/last").queryParam("at", "2020-11-29T00:00:00").queryParam("profile", "EQ"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].id").value(contains("urn:uuid:58c98e13-d37f-4f0b-82c9-066deda4cd20")));
+        mvc.perform(get("/v1/boundaries/last").queryParam("profile", "TP"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].id").value(contains("urn:uuid:55257eed-ac1d-4b99-8828-3e1b47f5e0a1")));
+
+        assertTrue(assertThrows(Exception.class, () -> mvc.perform(get("/v1/boundaries/last").queryParam("at", "2019-01-01T00:00:00")))
+            .getMessage().matches("(.*)Boundary not found for profile EQ at(.*)"));
+    }
+
+    private static int countMatches(String s, String sub) {
+        return s.split(sub, -1).length - 1;
+    }
+
+    @Test
+    void testLastBoundariesEvents() throws Exception {
+        importBoundary("20191106T0930Z__ENTSOE_EQBD_001.xml");
+        MvcResult result = mvc.perform(get("/v1/boundaries/last/events"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        // the current last boundaries are sent first
+        String events = awaitEvents(result, "urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71");
+        assertEquals(1, countMatches(events, "event:last-boundary\n"));
+
+        importBoundary("20191106T0930Z__ENTSOE_TPBD_001.xml");
+        events = awaitEvents(result, "urn:uuid:f1582c44-d9e2-4ea0-afdc-dba189ab4358");
+        assertEquals(2, countMatches(events, "event:last-boundary\n"));
+
+        // an older boundary does not change the last ones, events being sent in order
+        importBoundary("20181106T0930Z__ENTSOE_EQBD_001.xml");
+        importBoundary("20201106T0930Z__ENTSOE_EQBD_001.xml");
+        events = awaitEvents(result, "urn:uuid:58c98e13-d37f-4f0b-82c9-066deda4cd20");
+        assertEquals(3, countMatches(events, "event:last-boundary\n"));
+
+        // deleting the last boundary of a profile notifies the previous one
+        mvc.perform(delete("/v1/boundaries/urn:uuid:58c98e13-d37f-4f0b-82c9-066deda4cd20"))
+            .andExpect(status().isOk());
+        events = awaitEvents(result, 4, "event:last-boundary\n");
+        assertEquals(2, countMatches(events, "urn:uuid:3e3f7738-aab9-4284-a965-71d5cd151f71"));
+
+        // or the profile if it has no boundary anymore
+        mvc.perform(delete("/v1/boundaries/urn:uuid:f1582c44-d9e2-4ea0-afdc-dba189ab4358"))
+            .andExpect(status().isOk());
+        events = awaitEvents(result, "event:last-boundary-removed\ndata:TP\n");
+        assertEquals(4, countMatches(events, "event:last-boundary\n"));
+    }
+
+    private static String awaitEvents(MvcResult result, String expected) throws Exception {
+        return awaitEvents(result, 1, expected);
+    }
+
+    /**
+     * Events being sent asynchronously, wait for the given count of occurrences of a string in the events sent.
+     */
+    private static String awaitEvents(MvcResult result, int count, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        String events = result.getResponse().getContentAsString();
+        while (countMatches(events, expected) < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            events = result.getResponse().getContentAsString();
+        }
+        assertEquals(count, countMatches(events, expected));
+        return events;
+    }
+
     @Test
     void testTsosList() throws Exception {
         MockMultipartFile file = new MockMultipartFile("file", "tsos.json",
@@ -235,6 +1360,40 @@ class CgmesBoundaryControllerTest {
         IOUtils.copy(new FileInputStream(ResourceUtils.getFile("classpath:tsos.json")), writer, Charset.forName("UTF-8"));
         String expected = writer.toString();
         assertEquals(expected, result.getResponse().getContentAsString());
+
+        // lists are normalized at import
+        mvc.perform(MockMvcRequestBuilders.multipart("/v1/tsos").file(new MockMultipartFile("file", "tsos.json",
+                MediaType.APPLICATION_JSON_VALUE, "[\" REE \",\"ree\",\"Elia\"]".getBytes(StandardCharsets.UTF_8))))
+            .andExpect(status().isOk());
+        mvc.perform(get("/v1/tsos"))
+            .andExpect(status().isOk())
+            .andExpect(content().string("[\"Elia\",\"REE\"]"));
+
+        // malformed lists are rejected and the previous list is kept
+        for (String malformed : new String[] {"[\"REE\"", "{\"tso\":\"REE\"}", "[\"REE\",1]", "[\"REE\",\" \"]"}) {
+            mvc.perform(MockMvcRequestBuilders.multipart("/v1/tsos").file(new MockMultipartFile("file", "tsos.json",
+                    MediaType.APPLICATION_JSON_VALUE, malformed.getBytes(StandardCharsets.UTF_8))))
+                .andExpect(status().isBadRequest());
+        }
+        mvc.perform(get("/v1/tsos"))
+            .andExpect(status().isOk())
+            .andExpect(content().string("[\"Elia\",\"REE\"]"));
+
+        // lists imported before are normalized by a migration, and when served: invalid elements are dropped
+        // and a list that is not a JSON array is served empty
+        assertEquals("[\"Elia\",\"REE\"]", NameLists.normalizeStored("[\" REE \",\"ree\",1,\"Elia\",\" \"]"));
+        assertEquals("[]", NameLists.normalizeStored("{\"tso\":\"REE\"}"));
+        jdbcTemplate.update("UPDATE tsos SET tsos = ?", "[\"REE\"");
+        boundaryCache.invalidateAll();
+        mvc.perform(get("/v1/tsos"))
+            .andExpect(status().isOk())
+            .andExpect(content().string("[]"));
+        jdbcTemplate.update("UPDATE tsos SET tsos = ?", "[\"REE\",1]");
+        boundaryCache.invalidateAll();
+        mvc.perform(get("/v1/tsos"))
+            .andExpect(status().isOk())
+            .andExpect(content().string("[\"REE\"]"));
+        jdbcTemplate.update("DELETE FROM tsos");
     }
 
     @Test